@@ -363,9 +363,10 @@ public interface AccountApi {
     public ResponseEntity<Object> getAccountMutationSummary(
             @Valid Principal principal,
             @Parameter(description = "Year for which the summary is required (1900...2100)", example = "2024", schema = @Schema(implementation = Integer.class, minimum = "1900", maximum = "2100")) @Min(1900) @Max(2100) Integer year,
-            @Parameter(description = "Month for which the summary is required (1...12)", example = "06", schema = @Schema(implementation = Integer.class, minimum = "1", maximum = "12")) @Min(1) @Max(12) Integer month);
+            @Parameter(description = "Month for which the summary is required (1...12)", example = "06", schema = @Schema(implementation = Integer.class, minimum = "1", maximum = "12")) @Min(1) @Max(12) Integer month,
+            @Parameter(description = "Include the individual mutations of every category. Set to false to only receive the totals.", example = "true") @RequestParam(defaultValue = "true") boolean includeMutations);
 
-    @Operation(summary = "Get paginated account mutations with optional filtering", description = "Retrieve a paginated list of account mutations with optional filtering by year, month, transaction purpose, and transaction type.", responses = {
+    @Operation(summary = "Get paginated account mutations with optional filtering", description = "Retrieve a paginated list of account mutations with optional filtering by year, month, transaction purpose, and transaction type. When the cursor parameter is present, the response is a cursor page with content, size, has_next and next_cursor instead of an offset page.", responses = {
             @ApiResponse(responseCode = "200", description = "Successful retrieval of account mutations", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = AccountMutationsDto.class), examples = @ExampleObject(value = """
                     {
                         "data": {
@@ -479,7 +480,8 @@ public interface AccountApi {
                                         @RequestParam(required = false) TransactionType category,
                                         @RequestParam(required = false) String search,
                                         @RequestParam(defaultValue = "0") int page,
-                                        @RequestParam(defaultValue = "10") int size);
+                                        @RequestParam(defaultValue = "10") int size,
+                                        @Parameter(description = "Opaque cursor from a previous response's next_cursor. Send it empty to request the first page in cursor mode; page is ignored in this mode.") @RequestParam(required = false) String cursor);
 
         // @GetMapping("/mutations/page/filter")
         // ResponseEntity<AccountMutationsDto> getMutationsByMonthPageable(
@@ -9,12 +9,14 @@ import com.team7.rupiapp.dto.transfer.qris.QrisDto;
 import com.team7.rupiapp.dto.transfer.qris.QrisGenerateCPMDto;
 import com.team7.rupiapp.dto.transfer.qris.QrisGenerateMPMDto;
 import com.team7.rupiapp.dto.transfer.transfer.TransferRequestDto;
+import com.team7.rupiapp.enums.QrisFormat;
 
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -492,7 +494,9 @@ public interface TransferApi {
                         }
                     """)))
     })
-    public ResponseEntity<Object> createTransactionQrisMPM(QrisGenerateMPMDto qrisDto, Principal principal);
+    public ResponseEntity<Object> createTransactionQrisMPM(QrisGenerateMPMDto qrisDto,
+            @Parameter(description = "Response format: PNG (base64 image in qris), SVG (svg), MATRIX (module rows in matrix, 1 is dark, without the 4 module quiet zone) or PAYLOAD (QRIS string in payload). SVG and MATRIX are rendered without the logo.", example = "SVG") @RequestParam(defaultValue = "PNG") QrisFormat format,
+            Principal principal);
 
     @Operation(summary = "Generate QRIS CPM Transaction")
     @RequestBody(required = true, content = @Content(mediaType = "application/json", examples = @ExampleObject(value = """
@@ -538,6 +542,8 @@ public interface TransferApi {
                             """)
             }))
     })
-    public ResponseEntity<Object> createTransactionQrisCPM(QrisGenerateCPMDto qrisDto, Principal principal);
+    public ResponseEntity<Object> createTransactionQrisCPM(QrisGenerateCPMDto qrisDto,
+            @Parameter(description = "Response format: PNG (base64 image in qris), SVG (svg), MATRIX (module rows in matrix, 1 is dark, without the 4 module quiet zone) or PAYLOAD (QRIS string in payload). SVG and MATRIX are rendered without the logo.", example = "SVG") @RequestParam(defaultValue = "PNG") QrisFormat format,
+            Principal principal);
 
 }
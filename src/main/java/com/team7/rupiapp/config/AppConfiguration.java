@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -13,16 +14,20 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.team7.rupiapp.model.Money;
 import com.team7.rupiapp.repository.UserRepository;
+import com.team7.rupiapp.service.CredentialVerificationService;
 
 import io.swagger.v3.core.jackson.ModelResolver;
 
 @EnableAsync
+@EnableScheduling
 @Configuration
 public class AppConfiguration implements WebMvcConfigurer {
   private final UserRepository userRepository;
@@ -38,6 +43,8 @@ public class AppConfiguration implements WebMvcConfigurer {
   public ModelMapper modelMapper() {
     ModelMapper modelMapper = new ModelMapper();
     modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+    modelMapper.addConverter(context -> context.getSource() == null ? null : Money.parse(context.getSource()),
+        String.class, Money.class);
 
     return modelMapper;
   }
@@ -59,11 +66,24 @@ public class AppConfiguration implements WebMvcConfigurer {
   }
 
   @Bean
-  AuthenticationProvider authenticationProvider() {
+  AuthenticationProvider authenticationProvider(CredentialVerificationService credentialVerificationService) {
     DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
+    BCryptPasswordEncoder encoder = passwordEncoder();
 
     authProvider.setUserDetailsService(userDetailsService());
-    authProvider.setPasswordEncoder(passwordEncoder());
+    // Login checks share the bounded BCrypt pool with the PIN and password checks
+    authProvider.setPasswordEncoder(new PasswordEncoder() {
+      @Override
+      public String encode(CharSequence rawPassword) {
+        return encoder.encode(rawPassword);
+      }
+
+      @Override
+      public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return credentialVerificationService.matches(rawPassword == null ? null : rawPassword.toString(),
+            encodedPassword);
+      }
+    });
 
     return authProvider;
   }
@@ -0,0 +1,50 @@
+package com.team7.rupiapp.config;
+
+import java.io.IOException;
+
+import org.springframework.boot.jackson.JsonComponent;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.team7.rupiapp.model.Money;
+
+/*
+ * Money is written as a JSON number ("amount": 15000.5) and read from either a
+ * number or a numeric string. Amounts with more than two decimals are rejected
+ * instead of being rounded.
+ */
+@JsonComponent
+public class MoneyJsonComponent {
+    public static class Serializer extends JsonSerializer<Money> {
+        @Override
+        public void serialize(Money money, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeNumber(money.toPlainString());
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<Money> {
+        @Override
+        public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+
+            try {
+                if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+                    return Money.of(p.getDecimalValue());
+                }
+
+                if (token == JsonToken.VALUE_STRING) {
+                    return Money.parse(p.getText());
+                }
+            } catch (NumberFormatException e) {
+                throw ctxt.weirdStringException(p.getText(), Money.class, e.getMessage());
+            }
+
+            return (Money) ctxt.handleUnexpectedToken(Money.class, p);
+        }
+    }
+}
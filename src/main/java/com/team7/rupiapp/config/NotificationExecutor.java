@@ -0,0 +1,73 @@
+package com.team7.rupiapp.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.team7.rupiapp.exception.ServiceBusyException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * A channel's bounded notification pool. execute() is what @Async uses: when
+ * the queue is full the notification is dropped, which is fine for alerts
+ * about something that already happened. Messages the user is waiting on (an
+ * OTP, a recovered username) go through executeOrReject() instead, which
+ * fails the request with 503 so the client can retry rather than wait for a
+ * code that never arrives. Both are counted as app.notifications.rejected,
+ * tagged with the channel and outcome.
+ */
+@Slf4j
+public class NotificationExecutor implements Executor {
+    private static final String BUSY = "Server is busy, please try again";
+
+    private final ExecutorService delegate;
+    private final String channel;
+    private final Counter dropped;
+    private final Counter refused;
+
+    public NotificationExecutor(ExecutorService delegate, String channel, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.channel = channel;
+        this.dropped = rejectedCounter(meterRegistry, channel, "dropped");
+        this.refused = rejectedCounter(meterRegistry, channel, "refused");
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        try {
+            delegate.execute(task);
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+            log.warn("Notification queue for {} is full, dropping notification", channel);
+        }
+    }
+
+    public void executeOrReject(Runnable task) {
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("Error sending {} notification", channel, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refused.increment();
+            log.warn("Notification queue for {} is full, refusing request", channel);
+            throw new ServiceBusyException(BUSY);
+        }
+    }
+
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String channel, String outcome) {
+        return Counter.builder("app.notifications.rejected")
+                .tags("channel", channel, "outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,55 @@
+package com.team7.rupiapp.config;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/*
+ * One bounded pool per notification channel, so a slow SMTP server can only
+ * back up e-mail while WhatsApp OTPs keep going out. A full queue never
+ * blocks the request thread or grows without limit; NotificationExecutor
+ * decides whether the notification is dropped or the request refused. Pool
+ * and queue metrics are published as executor.* tagged with name.
+ */
+@Configuration
+public class NotificationExecutorConfiguration {
+    public static final String EMAIL_EXECUTOR = "emailNotificationExecutor";
+    public static final String WHATSAPP_EXECUTOR = "whatsappNotificationExecutor";
+
+    @Bean(EMAIL_EXECUTOR)
+    public NotificationExecutor emailNotificationExecutor(MeterRegistry meterRegistry,
+            @Value("${app.notification.email.pool-size:4}") int poolSize,
+            @Value("${app.notification.email.queue-capacity:500}") int queueCapacity) {
+        return notificationExecutor(meterRegistry, "email", poolSize, queueCapacity);
+    }
+
+    @Bean(WHATSAPP_EXECUTOR)
+    public NotificationExecutor whatsappNotificationExecutor(MeterRegistry meterRegistry,
+            @Value("${app.notification.whatsapp.pool-size:4}") int poolSize,
+            @Value("${app.notification.whatsapp.queue-capacity:1000}") int queueCapacity) {
+        return notificationExecutor(meterRegistry, "whatsapp", poolSize, queueCapacity);
+    }
+
+    private static NotificationExecutor notificationExecutor(MeterRegistry meterRegistry, String channel,
+            int poolSize, int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("notify-" + channel + "-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        ExecutorService monitored = ExecutorServiceMetrics.monitor(meterRegistry, executor,
+                "notifications." + channel, List.of(Tag.of("channel", channel)));
+        return new NotificationExecutor(monitored, channel, meterRegistry);
+    }
+}
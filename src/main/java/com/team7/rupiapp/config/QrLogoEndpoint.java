@@ -0,0 +1,26 @@
+package com.team7.rupiapp.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import com.team7.rupiapp.service.QrLogoService;
+
+/*
+ * POST /actuator/qrlogo re-reads the QR logo from disk after it was replaced.
+ * Needs the operator account, see ActuatorSecurityConfig.
+ */
+@Component
+@Endpoint(id = "qrlogo")
+public class QrLogoEndpoint {
+    private final QrLogoService qrLogoService;
+
+    public QrLogoEndpoint(QrLogoService qrLogoService) {
+        this.qrLogoService = qrLogoService;
+    }
+
+    @WriteOperation
+    public void reload() {
+        qrLogoService.reload();
+    }
+}
@@ -0,0 +1,58 @@
+package com.team7.rupiapp.config;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PessimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Runs a unit of work in its own transaction and retries it a bounded number
+ * of times when the database aborts it because of a lock conflict or deadlock.
+ */
+@Slf4j
+@Component
+public class TransactionRetryTemplate {
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    @Value("${app.transaction.max-attempts:3}")
+    private int maxAttempts;
+
+    public TransactionRetryTemplate(PlatformTransactionManager transactionManager, EntityManager entityManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (PessimisticLockingFailureException | PessimisticLockException | LockTimeoutException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+
+                log.warn("Lock conflict on attempt {} of {}, retrying: {}", attempt, maxAttempts, e.getMessage());
+                entityManager.clear();
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(attempt * 10L + ThreadLocalRandom.current().nextInt(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
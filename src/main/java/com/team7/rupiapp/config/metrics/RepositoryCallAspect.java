@@ -0,0 +1,14 @@
+package com.team7.rupiapp.config.metrics;
+
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class RepositoryCallAspect {
+    @Before("target(org.springframework.data.repository.Repository)")
+    public void countRepositoryCall() {
+        RepositoryCallCounter.increment();
+    }
+}
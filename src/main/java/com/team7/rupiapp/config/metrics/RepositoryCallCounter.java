@@ -0,0 +1,24 @@
+package com.team7.rupiapp.config.metrics;
+
+/*
+ * Per-thread count of repository invocations made while serving the current
+ * request. Reset by RepositoryCallMetricsFilter at the end of every request.
+ */
+public final class RepositoryCallCounter {
+    private static final ThreadLocal<int[]> CALLS = ThreadLocal.withInitial(() -> new int[1]);
+
+    private RepositoryCallCounter() {
+    }
+
+    public static void increment() {
+        CALLS.get()[0]++;
+    }
+
+    public static int get() {
+        return CALLS.get()[0];
+    }
+
+    public static void reset() {
+        CALLS.remove();
+    }
+}
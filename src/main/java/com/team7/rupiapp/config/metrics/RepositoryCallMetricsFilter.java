@@ -0,0 +1,60 @@
+package com.team7.rupiapp.config.metrics;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Records how many repository calls each endpoint makes, including the ones
+ * done by the security filters, as the app.repository.calls summary tagged
+ * with the HTTP method and matched URI pattern.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RepositoryCallMetricsFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+
+    public RepositoryCallMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RepositoryCallCounter.reset();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int calls = RepositoryCallCounter.get();
+            RepositoryCallCounter.reset();
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+            DistributionSummary.builder("app.repository.calls")
+                    .description("Repository invocations per HTTP request")
+                    .tags("method", request.getMethod(), "uri", uri)
+                    .register(meterRegistry)
+                    .record(calls);
+
+            log.debug("{} {} made {} repository calls", request.getMethod(), uri, calls);
+        }
+    }
+}
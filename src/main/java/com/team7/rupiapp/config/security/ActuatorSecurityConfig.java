@@ -0,0 +1,64 @@
+package com.team7.rupiapp.config.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.web.SecurityFilterChain;
+
+/*
+ * Actuator endpoints get their own chain ahead of the customer one: health is
+ * open, everything else (metrics, the qrlogo write operation) needs the
+ * operator account over HTTP Basic. Customer JWTs carry no roles, so they
+ * never pass here. Without app.management.password only health is reachable.
+ */
+@Configuration
+public class ActuatorSecurityConfig {
+        private static final String ROLE = "ACTUATOR";
+
+        @Value("${app.management.username}")
+        private String username;
+
+        @Value("${app.management.password}")
+        private String password;
+
+        @Bean
+        @Order(1)
+        public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http, BCryptPasswordEncoder passwordEncoder)
+                        throws Exception {
+                InMemoryUserDetailsManager operators = new InMemoryUserDetailsManager();
+                if (!username.isBlank() && !password.isBlank()) {
+                        operators.createUser(User.withUsername(username)
+                                        .password(passwordEncoder.encode(password))
+                                        .roles(ROLE)
+                                        .build());
+                }
+
+                DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
+                authenticationProvider.setUserDetailsService(operators);
+                authenticationProvider.setPasswordEncoder(passwordEncoder);
+
+                return http.securityMatcher(EndpointRequest.toAnyEndpoint())
+                                .csrf(AbstractHttpConfigurer::disable)
+                                .authorizeHttpRequests(requests -> requests
+                                                .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                                                .anyRequest()
+                                                .hasRole(ROLE))
+                                .httpBasic(Customizer.withDefaults())
+                                .sessionManagement(management -> management
+                                                .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                                .authenticationManager(new ProviderManager(authenticationProvider))
+                                .build();
+        }
+}
@@ -11,16 +11,17 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 
-import com.team7.rupiapp.model.User;
+import com.team7.rupiapp.model.AuthenticatedUser;
+import com.team7.rupiapp.service.AuthenticatedUserService;
 import com.team7.rupiapp.service.JwtService;
 
+import io.jsonwebtoken.Claims;
+
 import java.io.IOException;
 
 @Slf4j
@@ -29,14 +30,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final HandlerExceptionResolver handlerExceptionResolver;
 
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final AuthenticatedUserService authenticatedUserService;
 
     public JwtAuthenticationFilter(
             JwtService jwtService,
-            UserDetailsService userDetailsService,
+            AuthenticatedUserService authenticatedUserService,
             HandlerExceptionResolver handlerExceptionResolver) {
         this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
+        this.authenticatedUserService = authenticatedUserService;
         this.handlerExceptionResolver = handlerExceptionResolver;
     }
 
@@ -63,14 +64,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             final String token = authHeader.substring(7);
-            final String username = jwtService.extractUsername(token);
+            final Claims claims = jwtService.parseToken(token);
+            final String username = claims.getSubject();
 
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
             if (username != null && authentication == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+                AuthenticatedUser userDetails = authenticatedUserService.loadByUsername(username);
 
-                if (jwtService.isTokenValid(token, userDetails)) {
+                if (jwtService.isTokenValid(claims, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -81,7 +83,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     handleDisabledUser(userDetails, requestURI);
                     handleUserWithDefaultPassword(userDetails, requestURI);
                     handleUserWithoutPin(userDetails, requestURI);
-                    handleLoginOtp(token, requestURI);
+                    handleLoginOtp(claims, requestURI);
 
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -95,35 +97,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
-    private void handleDisabledUser(UserDetails userDetails, String requestURI) {
-        if (userDetails instanceof User) {
-            User user = (User) userDetails;
-            if (!user.isVerified() && !isAllowedRequest(requestURI)) {
-                throw new AccessDeniedException("User is not verified");
-            }
+    private void handleDisabledUser(AuthenticatedUser user, String requestURI) {
+        if (!user.isVerified() && !isAllowedRequest(requestURI)) {
+            throw new AccessDeniedException("User is not verified");
         }
     }
 
-    private void handleUserWithDefaultPassword(UserDetails userDetails, String requestURI) {
-        if (userDetails instanceof User) {
-            User user = (User) userDetails;
-            if (user.isDefaultPassword() && !isAllowedRequest(requestURI)) {
-                throw new AccessDeniedException("User has default password");
-            }
+    private void handleUserWithDefaultPassword(AuthenticatedUser user, String requestURI) {
+        if (user.isDefaultPassword() && !isAllowedRequest(requestURI)) {
+            throw new AccessDeniedException("User has default password");
         }
     }
 
-    private void handleUserWithoutPin(UserDetails userDetails, String requestURI) {
-        if (userDetails instanceof User) {
-            User user = (User) userDetails;
-            if (user.getPin() == null && !isAllowedRequest(requestURI)) {
-                throw new AccessDeniedException("User has no pin");
-            }
+    private void handleUserWithoutPin(AuthenticatedUser user, String requestURI) {
+        if (!user.isPinSet() && !isAllowedRequest(requestURI)) {
+            throw new AccessDeniedException("User has no pin");
         }
     }
 
-    private void handleLoginOtp(String token, String requestURI) {
-        if (!jwtService.isTokenEnabled(token) &&
+    private void handleLoginOtp(Claims claims, String requestURI) {
+        if (!jwtService.isTokenEnabled(claims) &&
                 (requestURI.equals("/auth/set-password") ||
                         requestURI.equals("/auth/set-pin") ||
                         !isAllowedRequest(requestURI))) {
@@ -37,8 +37,9 @@ public class AccountController implements AccountApi {
     @GetMapping("/mutations/summary")
     public ResponseEntity<Object> getAccountMutationSummary(@Valid Principal principal,
             @Min(1900) @Max(2100) Integer year,
-            @Min(1) @Max(12) Integer month) {
-        Object response = accountService.getAccountMutationSummary(principal, year, month);
+            @Min(1) @Max(12) Integer month,
+            @RequestParam(defaultValue = "true") boolean includeMutations) {
+        Object response = accountService.getAccountMutationSummary(principal, year, month, includeMutations);
         return ApiResponseUtil.success(HttpStatus.OK, "Account Mutation Summary fetched", response);
     }
 
@@ -63,7 +64,8 @@ public class AccountController implements AccountApi {
             @RequestParam(required = false) TransactionType category,
             @RequestParam(required = false) String search,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
 
         MutationDto mutationDto = new MutationDto();
         mutationDto.setStartDate(startDate);
@@ -71,7 +73,9 @@ public class AccountController implements AccountApi {
         mutationDto.setCategory(category);
         mutationDto.setSearch(search);
 
-        Object response = accountService.getMutations(principal, mutationDto, page, size);
+        Object response = cursor != null
+                ? accountService.getMutations(principal, mutationDto, cursor, size)
+                : accountService.getMutations(principal, mutationDto, page, size);
         return ApiResponseUtil.success(HttpStatus.OK, "Mutations fetched", response);
     }
 
@@ -13,6 +13,7 @@ import com.team7.rupiapp.dto.transfer.qris.QrisResponseDto;
 import com.team7.rupiapp.dto.transfer.qris.QrisTransferResponseDto;
 import com.team7.rupiapp.dto.transfer.transfer.TransferRequestDto;
 import com.team7.rupiapp.dto.transfer.transfer.TransferResponseDto;
+import com.team7.rupiapp.enums.QrisFormat;
 import com.team7.rupiapp.service.TransactionService;
 import com.team7.rupiapp.util.ApiResponseUtil;
 
@@ -90,15 +91,16 @@ public class TransferController implements TransferApi {
 
     @PostMapping("/qris/generate")
     public ResponseEntity<Object> createTransactionQrisMPM(
-            @Valid @RequestBody(required = false) QrisGenerateMPMDto qrisDto, Principal principal) {
-        QrisGenerateResponseDto responseDto = transactionService.createQris(principal, qrisDto);
+            @Valid @RequestBody(required = false) QrisGenerateMPMDto qrisDto,
+            @RequestParam(defaultValue = "PNG") QrisFormat format, Principal principal) {
+        QrisGenerateResponseDto responseDto = transactionService.createQris(principal, qrisDto, format);
         return ApiResponseUtil.success(HttpStatus.OK, "Qris transaction has been created", responseDto);
     }
 
     @PostMapping("/qris/generate/cpm")
     public ResponseEntity<Object> createTransactionQrisCPM(@Valid @RequestBody QrisGenerateCPMDto qrisDto,
-            Principal principal) {
-        QrisGenerateResponseDto responseDto = transactionService.createQrisCPM(principal, qrisDto);
+            @RequestParam(defaultValue = "PNG") QrisFormat format, Principal principal) {
+        QrisGenerateResponseDto responseDto = transactionService.createQrisCPM(principal, qrisDto, format);
         return ApiResponseUtil.success(HttpStatus.OK, "Qris transaction has been created", responseDto);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.team7.rupiapp.dto.account;
 
+import com.team7.rupiapp.model.Money;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -9,7 +10,7 @@ public class AccountMutationResponseDto {
     private LocalDateTime date;
     private String category;
     private String description;
-    private Double amount;
+    private Money amount;
     private String accountNumber;
     private String transactionPurpose;
     private String transactionType;
@@ -1,5 +1,6 @@
 package com.team7.rupiapp.dto.account;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.team7.rupiapp.enums.MutationType;
 import com.team7.rupiapp.enums.TransactionPurpose;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -53,6 +54,7 @@ public class AccountMutationSummaryResponseDto {
 
     @Data
     @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Schema(description = "Category detail")
     public static class CategoryDetail {
         private List<MutationDetail> mutations;
@@ -0,0 +1,23 @@
+package com.team7.rupiapp.dto.account;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@Schema(description = "Cursor based page of account mutations")
+public class MutationCursorPageDto {
+    private List<MutationResponseDto> content;
+
+    @Schema(description = "Requested page size", example = "10")
+    private int size;
+
+    @Schema(description = "Whether more mutations exist after this page", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Opaque cursor to request the next page, null on the last page", example = "MjAyNC0wOC0yMFQwMTo1MDozMi4xMjN8NjdmNTIwMmEtYmNkMy00MDQxLThjNDQtNjdjOTkzOWMwNTZi")
+    private String nextCursor;
+}
@@ -1,5 +1,6 @@
 package com.team7.rupiapp.dto.account;
 
+import com.team7.rupiapp.model.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,7 +23,7 @@ public class MutationResponseDto {
     private String accountNumber;
     private LocalDate date;
     private String time;
-    private Double amount;
+    private Money amount;
     private String description;
     private TransactionType transactionType;
     private MutationType mutationType;
@@ -1,6 +1,7 @@
 package com.team7.rupiapp.dto.demo;
 
-import jakarta.validation.constraints.Min;
+import com.team7.rupiapp.dto.validation.ValidAmount;
+import com.team7.rupiapp.model.Money;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
@@ -14,6 +15,6 @@ public class DemoQrisCPMDto {
     private String merchant;
 
     @NotNull(message = "Amount is required")
-    @Min(value = 1, message = "Amount must be greater than zero")
-    private Double amount;
+    @ValidAmount
+    private Money amount;
 }
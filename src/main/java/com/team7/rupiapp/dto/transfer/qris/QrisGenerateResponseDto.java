@@ -1,12 +1,27 @@
 package com.team7.rupiapp.dto.transfer.qris;
 
 import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import lombok.Data;
 
+/*
+ * Only the field of the requested format is filled: qris (base64 PNG), svg,
+ * matrix (module rows, '1' is dark, without the 4 module quiet zone) or
+ * payload (the QRIS string itself).
+ */
 @Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class QrisGenerateResponseDto {
     private String qris;
 
+    private String svg;
+
+    private List<String> matrix;
+
+    private String payload;
+
     private LocalDateTime expiredAt;
 }
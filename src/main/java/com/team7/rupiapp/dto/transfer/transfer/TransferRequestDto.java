@@ -1,8 +1,9 @@
 package com.team7.rupiapp.dto.transfer.transfer;
 
+import com.team7.rupiapp.dto.validation.ValidAmount;
 import com.team7.rupiapp.enums.MutationType;
 import com.team7.rupiapp.enums.TransactionPurpose;
-import jakarta.validation.constraints.Min;
+import com.team7.rupiapp.model.Money;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
@@ -15,8 +16,8 @@ public class TransferRequestDto {
     private UUID destinationId;
 
     @NotNull(message = "Amount must not be null")
-    @Min(value = 1, message = "Amount must be greater than zero")
-    private Double amount;
+    @ValidAmount
+    private Money amount;
 
     private String description;
 
@@ -1,6 +1,7 @@
 package com.team7.rupiapp.dto.transfer.transfer;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.team7.rupiapp.model.Money;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -24,7 +25,7 @@ public class TransferResponseDto {
     @Data
     public static class MutationDetail {
         private UUID mutationId;
-        private Double amount;
+        private Money amount;
         private LocalDateTime createdAt;
     }
 
@@ -0,0 +1,19 @@
+package com.team7.rupiapp.dto.validation;
+
+import java.lang.annotation.*;
+
+import com.team7.rupiapp.dto.validation.validator.AmountValidator;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+@Target({ElementType.FIELD})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = AmountValidator.class)
+public @interface ValidAmount {
+    String message() default "Amount must be greater than zero";
+    Class<?>[] groups() default {};
+    Class<? extends Payload>[] payload() default {};
+
+    long min() default 1;
+}
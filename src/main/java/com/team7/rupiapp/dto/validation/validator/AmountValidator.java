@@ -0,0 +1,21 @@
+package com.team7.rupiapp.dto.validation.validator;
+
+import com.team7.rupiapp.dto.validation.ValidAmount;
+import com.team7.rupiapp.model.Money;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class AmountValidator implements ConstraintValidator<ValidAmount, Money> {
+    private Money min;
+
+    @Override
+    public void initialize(ValidAmount annotation) {
+        this.min = Money.ofRupiah(annotation.min());
+    }
+
+    @Override
+    public boolean isValid(Money value, ConstraintValidatorContext context) {
+        return value == null || !value.isLessThan(min);
+    }
+}
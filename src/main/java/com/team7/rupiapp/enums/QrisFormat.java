@@ -0,0 +1,8 @@
+package com.team7.rupiapp.enums;
+
+public enum QrisFormat {
+    PNG,
+    SVG,
+    MATRIX,
+    PAYLOAD
+}
@@ -69,6 +69,13 @@ public class GlobalExceptionHandler {
         return ApiResponseUtil.error(HttpStatus.FORBIDDEN, ex.getMessage());
     }
 
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<Object> handleServiceBusyException(ServiceBusyException ex) {
+        log.warn(ex.getMessage());
+
+        return ApiResponseUtil.error(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleException(Exception ex) {
         String requestId = UUID.randomUUID().toString();
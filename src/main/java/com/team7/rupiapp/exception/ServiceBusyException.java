@@ -0,0 +1,7 @@
+package com.team7.rupiapp.exception;
+
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,38 @@
+package com.team7.rupiapp.model;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * Read-only projection of the users row holding only what the security
+ * filter needs to authorize a request. It is kept as the authentication
+ * principal so the full User entity (and its balance) is not loaded per
+ * request.
+ */
+@Getter
+@AllArgsConstructor
+public class AuthenticatedUser implements UserDetails {
+    private final UUID id;
+    private final String username;
+    private final boolean verified;
+    private final boolean defaultPassword;
+    private final boolean pinSet;
+    private final boolean enabled;
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of();
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+}
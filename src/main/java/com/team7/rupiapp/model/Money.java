@@ -0,0 +1,101 @@
+package com.team7.rupiapp.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/*
+ * Rupiah amount held as a whole number of sen (1/100 rupiah). Amounts are
+ * stored as BIGINT by MoneyConverter and written to JSON as a plain decimal
+ * number by MoneyJsonComponent, so sums and comparisons are exact integer
+ * arithmetic everywhere.
+ */
+@Schema(type = "number", example = "15000")
+public final class Money implements Comparable<Money> {
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    private static final long MINOR_UNITS_PER_RUPIAH = 100;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinorUnits(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money ofRupiah(long rupiah) {
+        return ofMinorUnits(Math.multiplyExact(rupiah, MINOR_UNITS_PER_RUPIAH));
+    }
+
+    public static Money of(BigDecimal amount) {
+        try {
+            return ofMinorUnits(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Invalid amount: " + amount.toPlainString());
+        }
+    }
+
+    public static Money parse(String amount) {
+        return of(new BigDecimal(amount.trim()));
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Money plus(Money other) {
+        return ofMinorUnits(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinorUnits(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isLessThan(Money other) {
+        return minorUnits < other.minorUnits;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /*
+     * Plain decimal without trailing zeros, e.g. "15000" or "15000.5".
+     */
+    public String toPlainString() {
+        if (minorUnits % MINOR_UNITS_PER_RUPIAH == 0) {
+            return Long.toString(minorUnits / MINOR_UNITS_PER_RUPIAH);
+        }
+
+        return toBigDecimal().stripTrailingZeros().toPlainString();
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof Money money && minorUnits == money.minorUnits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toPlainString();
+    }
+}
@@ -17,7 +17,9 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "mutations")
+@Table(name = "mutations", indexes = {
+        @Index(name = "idx_mutations_user_created_at_id", columnList = "user_id, created_at, id")
+})
 public class Mutation {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -28,7 +30,7 @@ public class Mutation {
     private User user;
 
     @Column(nullable = false)
-    private Double amount;
+    private Money amount;
 
     private String description;
 
@@ -0,0 +1,62 @@
+package com.team7.rupiapp.model;
+
+import java.util.UUID;
+
+import com.team7.rupiapp.enums.MutationType;
+import com.team7.rupiapp.enums.TransactionType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "mutation_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_mutation_rollups_user_period_type", columnNames = { "user_id", "period_year",
+                "period_month", "transaction_type", "mutation_type" })
+})
+public class MutationRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(targetEntity = User.class, fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false, name = "user_id")
+    private User user;
+
+    @Column(name = "period_year", nullable = false)
+    private int periodYear;
+
+    @Column(name = "period_month", nullable = false)
+    private int periodMonth;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false)
+    private TransactionType transactionType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mutation_type", nullable = false)
+    private MutationType mutationType;
+
+    @Column(name = "number_of_transactions", nullable = false)
+    private long numberOfTransactions;
+
+    @Column(name = "total_amount", nullable = false)
+    private Money totalAmount;
+}
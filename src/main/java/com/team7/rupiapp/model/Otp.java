@@ -13,6 +13,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -27,7 +28,10 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "otps")
+@Table(name = "otps", indexes = {
+        @Index(name = "idx_otps_expiry_date", columnList = "expiry_date"),
+        @Index(name = "ux_otps_user_type", columnList = "user_id, type", unique = true)
+})
 public class Otp {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -48,4 +52,7 @@ public class Otp {
     private OtpType type;
 
     private String newValue;
+
+    @Column(columnDefinition = "integer not null default 0")
+    private int attempts = 0;
 }
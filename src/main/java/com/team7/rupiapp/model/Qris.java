@@ -1,5 +1,8 @@
 package com.team7.rupiapp.model;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -10,9 +13,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -23,7 +28,11 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "qris")
+@Table(name = "qris", indexes = {
+        @Index(name = "ux_qris_transaction_id", columnList = "transaction_id", unique = true),
+        @Index(name = "ux_qris_payload_digest", columnList = "payload_digest", unique = true),
+        @Index(name = "idx_qris_expired_at", columnList = "expired_at")
+})
 public class Qris {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -41,9 +50,38 @@ public class Qris {
 
     private String payload;
 
+    /*
+     * SHA-256 of the payload. Payloads are long (a CPM payload is a few
+     * hundred characters), so lookups by payload go through this fixed-width
+     * column instead. Kept in sync by setPayload.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "payload_digest", length = 32)
+    private byte[] payloadDigest;
+
     @Column(nullable = false)
     private boolean used = false;
 
+    /*
+     * Stable static QR of a user (app.qr.stable-static). It is paid many times
+     * and therefore never marked as used.
+     */
+    @Column(columnDefinition = "boolean not null default false")
+    private boolean reusable = false;
+
     @Column(name = "expired_at", nullable = false)
     private LocalDateTime expiredAt;
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+        this.payloadDigest = payload == null ? null : digest(payload);
+    }
+
+    public static byte[] digest(String payload) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.team7.rupiapp.model;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import jakarta.persistence.Column;
@@ -7,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -19,7 +21,9 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "tokens")
+@Table(name = "tokens", indexes = {
+        @Index(name = "idx_tokens_expires_at", columnList = "expires_at")
+})
 public class Token {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -34,6 +38,13 @@ public class Token {
     @Column(nullable = false)
     private boolean enabled = false;
 
+    /*
+     * When the refresh token expires; after that the row is only kept until
+     * housekeeping purges it. Null for rows created before this column.
+     */
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
     @PrePersist
     public void prePersist() {
         if (tokenId == null) {
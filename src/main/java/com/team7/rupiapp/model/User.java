@@ -61,7 +61,7 @@ public class User implements UserDetails {
     @Column(nullable = false, unique = true, length = 10)
     private String accountNumber;
 
-    private Double balance = 0.0;
+    private Money balance = Money.ZERO;
 
     @Column(nullable = false)
     private boolean enabled = true;
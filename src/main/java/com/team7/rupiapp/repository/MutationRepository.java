@@ -1,14 +1,19 @@
 package com.team7.rupiapp.repository;
 
+import com.team7.rupiapp.enums.MutationType;
+import com.team7.rupiapp.enums.TransactionType;
 import com.team7.rupiapp.model.Mutation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -24,4 +29,27 @@ public interface MutationRepository extends JpaRepository<Mutation, UUID>, JpaSp
                                                    LocalDateTime rangeEndMutationDate, Pageable pageable);
 
     Page<Mutation> findByUserId(UUID userId, Pageable pageable);
+
+    @Query("SELECT MIN(m.createdAt) FROM Mutation m")
+    Optional<LocalDateTime> findEarliestCreatedAt();
+
+    @Query(value = "SELECT m.transaction_type AS \"transactionType\", m.mutation_type AS \"mutationType\", "
+            + "COUNT(*) AS \"numberOfTransactions\", SUM(m.amount) AS \"totalAmount\" "
+            + "FROM mutations m "
+            + "WHERE m.user_id = :userId AND m.created_at BETWEEN :rangeStartMutationDate AND :rangeEndMutationDate "
+            + "GROUP BY m.transaction_type, m.mutation_type", nativeQuery = true)
+    List<MutationAggregate> aggregateByUserIdAndCreatedAtBetween(@Param("userId") UUID userId,
+                                                                 @Param("rangeStartMutationDate") LocalDateTime rangeStartMutationDate,
+                                                                 @Param("rangeEndMutationDate") LocalDateTime rangeEndMutationDate);
+
+    interface MutationAggregate {
+        TransactionType getTransactionType();
+
+        MutationType getMutationType();
+
+        Long getNumberOfTransactions();
+
+        /* Sum of amounts in minor units (sen). */
+        Long getTotalAmount();
+    }
 }
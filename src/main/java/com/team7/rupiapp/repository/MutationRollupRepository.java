@@ -0,0 +1,58 @@
+package com.team7.rupiapp.repository;
+
+import com.team7.rupiapp.model.MutationRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.transaction.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MutationRollupRepository extends JpaRepository<MutationRollup, UUID> {
+    List<MutationRollup> findByUserIdAndPeriodYearAndPeriodMonth(UUID userId, int periodYear, int periodMonth);
+
+    @Modifying
+    @Query(value = "INSERT INTO mutation_rollups (id, user_id, period_year, period_month, transaction_type, "
+            + "mutation_type, number_of_transactions, total_amount) "
+            + "VALUES (gen_random_uuid(), :userId, :periodYear, :periodMonth, :transactionType, :mutationType, 1, :amount) "
+            + "ON CONFLICT (user_id, period_year, period_month, transaction_type, mutation_type) DO UPDATE SET "
+            + "number_of_transactions = mutation_rollups.number_of_transactions + 1, "
+            + "total_amount = mutation_rollups.total_amount + EXCLUDED.total_amount", nativeQuery = true)
+    void increment(@Param("userId") UUID userId,
+                   @Param("periodYear") int periodYear,
+                   @Param("periodMonth") int periodMonth,
+                   @Param("transactionType") String transactionType,
+                   @Param("mutationType") String mutationType,
+                   @Param("amount") long amountMinorUnits);
+
+    /*
+     * Recomputes the rollups of the mutations created in [from, before) from
+     * the mutations table. Callers pass whole closed months, which never
+     * change afterwards, so running it again is harmless.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO mutation_rollups (id, user_id, period_year, period_month, transaction_type, "
+            + "mutation_type, number_of_transactions, total_amount) "
+            + "SELECT gen_random_uuid(), m.user_id, CAST(EXTRACT(YEAR FROM m.created_at) AS INTEGER), "
+            + "CAST(EXTRACT(MONTH FROM m.created_at) AS INTEGER), m.transaction_type, m.mutation_type, "
+            + "COUNT(*), SUM(m.amount) "
+            + "FROM mutations m "
+            + "WHERE m.created_at >= :from AND m.created_at < :before "
+            + "GROUP BY m.user_id, EXTRACT(YEAR FROM m.created_at), EXTRACT(MONTH FROM m.created_at), "
+            + "m.transaction_type, m.mutation_type "
+            + "ON CONFLICT (user_id, period_year, period_month, transaction_type, mutation_type) DO UPDATE SET "
+            + "number_of_transactions = EXCLUDED.number_of_transactions, "
+            + "total_amount = EXCLUDED.total_amount", nativeQuery = true)
+    int rebuildBetween(@Param("from") LocalDateTime from, @Param("before") LocalDateTime before);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM mutation_rollups "
+            + "WHERE (period_year, period_month) < (:periodYear, :periodMonth))", nativeQuery = true)
+    boolean existsBeforePeriod(@Param("periodYear") int periodYear, @Param("periodMonth") int periodMonth);
+}
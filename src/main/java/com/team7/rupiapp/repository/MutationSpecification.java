@@ -0,0 +1,118 @@
+package com.team7.rupiapp.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.team7.rupiapp.dto.account.MutationDto;
+import com.team7.rupiapp.model.Mutation;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class MutationSpecification {
+
+    private MutationSpecification() {
+    }
+
+    public static Specification<Mutation> filter(UUID userId, MutationDto mutationDto) {
+        return Specification.where(belongsTo(userId))
+                .and(createdFrom(mutationDto))
+                .and(createdUntil(mutationDto))
+                .and(hasCategory(mutationDto))
+                .and(matchesSearch(mutationDto));
+    }
+
+    public static Specification<Mutation> belongsTo(UUID userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    /*
+     * Keyset predicate for rows that come after (createdAt, id) when ordered by
+     * createdAt DESC, id DESC.
+     */
+    public static Specification<Mutation> after(LocalDateTime createdAt, UUID id) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.<LocalDateTime>get("createdAt"), createdAt),
+                cb.and(
+                        cb.equal(root.get("createdAt"), createdAt),
+                        cb.lessThan(root.<UUID>get("id"), id)));
+    }
+
+    private static Specification<Mutation> createdFrom(MutationDto mutationDto) {
+        if (mutationDto.getStartDate() == null) {
+            return null;
+        }
+
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.<LocalDateTime>get("createdAt"),
+                mutationDto.getStartDate().atStartOfDay());
+    }
+
+    private static Specification<Mutation> createdUntil(MutationDto mutationDto) {
+        if (mutationDto.getEndDate() == null) {
+            return null;
+        }
+
+        return (root, query, cb) -> cb.lessThan(root.<LocalDateTime>get("createdAt"),
+                mutationDto.getEndDate().plusDays(1).atStartOfDay());
+    }
+
+    private static Specification<Mutation> hasCategory(MutationDto mutationDto) {
+        if (mutationDto.getCategory() == null) {
+            return null;
+        }
+
+        return (root, query, cb) -> cb.equal(root.get("transactionType"), mutationDto.getCategory());
+    }
+
+    /*
+     * Mirrors the fields the in-memory search used to look at: full name,
+     * amount, account number, date (yyyy-MM-dd), time (HH:mm WIB),
+     * description and mutation type.
+     */
+    private static Specification<Mutation> matchesSearch(MutationDto mutationDto) {
+        if (mutationDto.getSearch() == null) {
+            return null;
+        }
+
+        String pattern = "%" + escapeLike(mutationDto.getSearch().toLowerCase()) + "%";
+
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(likeIgnoreCase(cb, root.get("fullName"), pattern));
+            predicates.add(likeIgnoreCase(cb, wholeRupiah(cb, root), pattern));
+            predicates.add(likeIgnoreCase(cb, root.get("accountNumber"), pattern));
+            predicates.add(likeIgnoreCase(cb, toChar(cb, root, "YYYY-MM-DD"), pattern));
+            predicates.add(likeIgnoreCase(cb, cb.concat(toChar(cb, root, "HH24:MI"), " WIB"), pattern));
+            predicates.add(likeIgnoreCase(cb, root.get("description"), pattern));
+            predicates.add(likeIgnoreCase(cb, root.get("mutationType").as(String.class), pattern));
+
+            return cb.or(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static Predicate likeIgnoreCase(CriteriaBuilder cb, Expression<String> expression, String pattern) {
+        return cb.like(cb.lower(expression), pattern, '\\');
+    }
+
+    /*
+     * Amounts are stored in sen, search matches the whole rupiah part as shown
+     * to the user.
+     */
+    private static Expression<String> wholeRupiah(CriteriaBuilder cb, Root<Mutation> root) {
+        return cb.function("div", Long.class, root.get("amount"), cb.literal(100L)).as(String.class);
+    }
+
+    private static Expression<String> toChar(CriteriaBuilder cb, Root<Mutation> root, String format) {
+        return cb.function("to_char", String.class, root.get("createdAt"), cb.literal(format));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
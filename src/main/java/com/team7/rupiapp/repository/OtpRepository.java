@@ -1,15 +1,21 @@
 package com.team7.rupiapp.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.team7.rupiapp.enums.OtpType;
 import com.team7.rupiapp.model.Otp;
 import com.team7.rupiapp.model.User;
 
+import jakarta.transaction.Transactional;
+
 @Repository
 public interface OtpRepository extends JpaRepository<Otp, UUID> {
     Otp findByCode(String code);
@@ -18,4 +24,36 @@ public interface OtpRepository extends JpaRepository<Otp, UUID> {
 
     Optional<Otp> findByUserAndType(User user, OtpType type);
 
+    /*
+     * Issues an OTP, replacing the user's pending one of the same type in the
+     * same statement (unique on user_id, type).
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO otps (id, user_id, type, code, expiry_date, new_value, attempts) "
+            + "VALUES (gen_random_uuid(), :userId, :type, :code, :expiryDate, CAST(:newValue AS VARCHAR), 0) "
+            + "ON CONFLICT (user_id, type) DO UPDATE SET code = EXCLUDED.code, expiry_date = EXCLUDED.expiry_date, "
+            + "new_value = EXCLUDED.new_value, attempts = 0", nativeQuery = true)
+    void upsert(@Param("userId") UUID userId,
+                @Param("type") String type,
+                @Param("code") String code,
+                @Param("expiryDate") LocalDateTime expiryDate,
+                @Param("newValue") String newValue);
+
+    /*
+     * Counts a verification attempt unless the limit is already reached.
+     * Returns 0 when it is. Runs in its own transaction so a failed attempt
+     * stays counted when the caller's transaction rolls back.
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "UPDATE otps SET attempts = attempts + 1 WHERE id = :id AND attempts < :maxAttempts",
+            nativeQuery = true)
+    int incrementAttempts(@Param("id") UUID id, @Param("maxAttempts") int maxAttempts);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM otps WHERE id IN "
+            + "(SELECT id FROM otps WHERE expiry_date < :cutoff LIMIT :limit)", nativeQuery = true)
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
@@ -1,13 +1,60 @@
 package com.team7.rupiapp.repository;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.team7.rupiapp.model.Qris;
 
+import jakarta.transaction.Transactional;
+
 public interface QrisRepository extends JpaRepository<Qris, UUID> {
     Qris findByTransactionId(String transactionId);
 
-    Qris findByPayload(String payload);
+    Qris findByPayloadDigest(byte[] payloadDigest);
+
+    /*
+     * Goes through the unique payload_digest index; the payload itself is
+     * compared afterwards so a digest collision can't return another QR.
+     */
+    default Qris findByPayload(String payload) {
+        Qris qris = findByPayloadDigest(Qris.digest(payload));
+        return qris != null && payload.equals(qris.getPayload()) ? qris : null;
+    }
+
+    /*
+     * Issues or refreshes a user's stable static code in one statement. A
+     * find-then-insert would let two concurrent first requests both insert
+     * and one of them fail on the unique transaction_id.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO qris (id, user_id, type, transaction_id, payload, payload_digest, used, reusable, "
+            + "expired_at) VALUES (gen_random_uuid(), :userId, :type, :transactionId, :payload, :payloadDigest, "
+            + "false, true, :expiredAt) "
+            + "ON CONFLICT (transaction_id) DO UPDATE SET user_id = EXCLUDED.user_id, type = EXCLUDED.type, "
+            + "payload = EXCLUDED.payload, payload_digest = EXCLUDED.payload_digest, used = false, reusable = true, "
+            + "expired_at = EXCLUDED.expired_at", nativeQuery = true)
+    void upsertReusable(@Param("userId") UUID userId,
+                        @Param("type") int type,
+                        @Param("transactionId") String transactionId,
+                        @Param("payload") String payload,
+                        @Param("payloadDigest") byte[] payloadDigest,
+                        @Param("expiredAt") LocalDateTime expiredAt);
+
+    /*
+     * Reusable (stable static) codes are refreshed whenever they are shown and
+     * are never purged. Used codes are kept too: the row is what stops a paid
+     * code, including another bank's dynamic code, from being paid again.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM qris WHERE id IN "
+            + "(SELECT id FROM qris WHERE expired_at < :cutoff AND NOT reusable AND NOT used LIMIT :limit)",
+            nativeQuery = true)
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
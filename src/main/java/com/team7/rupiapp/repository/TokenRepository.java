@@ -1,9 +1,13 @@
 package com.team7.rupiapp.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.team7.rupiapp.model.Token;
@@ -24,4 +28,9 @@ public interface TokenRepository extends JpaRepository<Token, Long> {
     void deleteByTokenId(UUID tokenId);
 
     void deleteByRefreshTokenId(UUID refreshTokenId);
+
+    @Modifying
+    @Query(value = "DELETE FROM tokens WHERE id IN "
+            + "(SELECT id FROM tokens WHERE expires_at < :cutoff LIMIT :limit)", nativeQuery = true)
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
@@ -1,8 +1,12 @@
 package com.team7.rupiapp.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.team7.rupiapp.model.AuthenticatedUser;
 import com.team7.rupiapp.model.User;
 
 import java.util.Optional;
@@ -12,6 +16,11 @@ import java.util.UUID;
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByUsername(String username);
 
+    @Query("SELECT new com.team7.rupiapp.model.AuthenticatedUser(u.id, u.username, u.verified, u.defaultPassword, "
+            + "CASE WHEN u.pin IS NULL THEN false ELSE true END, u.enabled) "
+            + "FROM User u WHERE u.username = :username")
+    Optional<AuthenticatedUser> findAuthenticatedUserByUsername(@Param("username") String username);
+
     Optional<User> findByEmail(String email);
 
     Optional<User> findByPhone(String phone);
@@ -23,4 +32,14 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     boolean existsByEmail(String email);
 
     boolean existsByPhone(String phone);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE users SET balance = balance - :amount "
+            + "WHERE id = :id AND :amount > 0 AND balance >= :amount", nativeQuery = true)
+    int debitBalance(@Param("id") UUID id, @Param("amount") long amountMinorUnits);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE users SET balance = balance + :amount WHERE id = :id AND :amount > 0",
+            nativeQuery = true)
+    int creditBalance(@Param("id") UUID id, @Param("amount") long amountMinorUnits);
 }
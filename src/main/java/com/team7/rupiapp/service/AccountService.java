@@ -2,6 +2,7 @@ package com.team7.rupiapp.service;
 
 import com.team7.rupiapp.dto.account.AccountDetailResponseDto;
 import com.team7.rupiapp.dto.account.AccountMutationSummaryResponseDto;
+import com.team7.rupiapp.dto.account.MutationCursorPageDto;
 import com.team7.rupiapp.dto.account.MutationDto;
 import com.team7.rupiapp.dto.account.MutationResponseDto;
 
@@ -14,9 +15,11 @@ public interface AccountService {
     public AccountDetailResponseDto getAccountDetail(Principal principal);
 
     public AccountMutationSummaryResponseDto getAccountMutationSummary(Principal principal, Integer year,
-            Integer month);
+            Integer month, boolean includeMutations);
 
     public Page<MutationResponseDto> getMutations(Principal principal, MutationDto mutationDto, int page, int size);
 
+    public MutationCursorPageDto getMutations(Principal principal, MutationDto mutationDto, String cursor, int size);
+
     public Object getMutationDetails(UUID mutationId, Principal principal);
 }
@@ -8,42 +8,57 @@ import com.team7.rupiapp.enums.TransactionType;
 import com.team7.rupiapp.exception.BadRequestException;
 import com.team7.rupiapp.exception.DataNotFoundException;
 import com.team7.rupiapp.exception.UnauthorizedException;
+import com.team7.rupiapp.model.Money;
 import com.team7.rupiapp.model.Mutation;
+import com.team7.rupiapp.model.MutationRollup;
 import com.team7.rupiapp.model.User;
 import com.team7.rupiapp.repository.MutationRepository;
-import com.team7.rupiapp.repository.UserRepository;
+import com.team7.rupiapp.repository.MutationRollupRepository;
+import com.team7.rupiapp.repository.MutationSpecification;
 import com.team7.rupiapp.util.Formatter;
 import jakarta.transaction.Transactional;
 
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 public class AccountServiceImpl implements AccountService {
+        private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm 'WIB'");
+        private static final Sort MUTATION_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+        private static final String CURSOR_SEPARATOR = "|";
+
         private final ModelMapper modelMapper;
-        private final UserRepository userRepository;
         private final MutationRepository mutationRepository;
+        private final MutationRollupRepository mutationRollupRepository;
+        private final AuthenticatedUserService authenticatedUserService;
+        private final CurrentUserService currentUserService;
 
-        public AccountServiceImpl(ModelMapper modelMapper, UserRepository userRepository,
-                        MutationRepository mutationRepository) {
+        public AccountServiceImpl(ModelMapper modelMapper, MutationRepository mutationRepository,
+                        MutationRollupRepository mutationRollupRepository, AuthenticatedUserService authenticatedUserService,
+                        CurrentUserService currentUserService) {
                 this.modelMapper = modelMapper;
-                this.userRepository = userRepository;
                 this.mutationRepository = mutationRepository;
+                this.mutationRollupRepository = mutationRollupRepository;
+                this.authenticatedUserService = authenticatedUserService;
+                this.currentUserService = currentUserService;
         }
 
         @Override
         public AccountDetailResponseDto getAccountDetail(Principal principal) {
-                User foundUser = userRepository.findByUsername(principal.getName())
+                User foundUser = currentUserService.find(principal)
                                 .orElseThrow(() -> new DataNotFoundException("User not found"));
 
                 return AccountDetailResponseDto.builder()
@@ -58,7 +73,8 @@ public class AccountServiceImpl implements AccountService {
         @Override
         public AccountMutationSummaryResponseDto getAccountMutationSummary(Principal principal,
                         Integer year,
-                        Integer month) {
+                        Integer month,
+                        boolean includeMutations) {
                 /*
                  * rangeStartMutationDate:
                  * By default, the rangeStartMutationDate defined as the beginning of the month
@@ -77,11 +93,34 @@ public class AccountServiceImpl implements AccountService {
                 LocalDateTime rangeStartMutationDate = getRangeStartMutationLocalDateTime(year, month);
                 LocalDateTime rangeEndMutationDate = getRangeEndMutationLocalDateTime(rangeStartMutationDate);
 
-                User foundUser = userRepository.findByUsername(principal.getName())
-                                .orElseThrow(() -> new DataNotFoundException("User not found"));
+                UUID userId = findUserIdByPrincipal(principal);
 
-                List<Mutation> mutations = mutationRepository.findByUserIdAndCreatedAtBetween(
-                                foundUser.getId(), rangeStartMutationDate, rangeEndMutationDate);
+                /*
+                 * Every mutation of the month is folded into the summary in one pass. When
+                 * the client does not need the individual mutations, closed months are read
+                 * from the monthly rollups and the current month is grouped and summed by
+                 * the database, so no mutation rows are loaded.
+                 */
+                MutationSummary summary = new MutationSummary(includeMutations);
+                if (includeMutations) {
+                        mutationRepository.findByUserIdAndCreatedAtBetween(
+                                        userId, rangeStartMutationDate, rangeEndMutationDate)
+                                        .forEach(summary::add);
+                } else {
+                        List<MutationRollup> rollups = isClosedMonth(rangeStartMutationDate)
+                                        ? mutationRollupRepository.findByUserIdAndPeriodYearAndPeriodMonth(
+                                                        userId, rangeStartMutationDate.getYear(),
+                                                        rangeStartMutationDate.getMonthValue())
+                                        : Collections.emptyList();
+
+                        if (!rollups.isEmpty()) {
+                                rollups.forEach(summary::add);
+                        } else {
+                                mutationRepository.aggregateByUserIdAndCreatedAtBetween(
+                                                userId, rangeStartMutationDate, rangeEndMutationDate)
+                                                .forEach(summary::add);
+                        }
+                }
 
                 /*
                  * The balance information (expense and income) calculations are explained as
@@ -104,30 +143,30 @@ public class AccountServiceImpl implements AccountService {
                  * totalExpenseOrIncomeAsDenominatorBalance) * 100 // total
                  * balance percentage by TransactionType
                  */
-                double totalIncome = calculateTotal(mutations, TransactionType.CREDIT);
-                double totalExpense = calculateTotal(mutations, TransactionType.DEBIT);
-                double denominatorBalance = totalIncome + totalExpense;
-                double totalEarnings = totalIncome - totalExpense;
+                long totalIncome = summary.total(TransactionType.CREDIT);
+                long totalExpense = summary.total(TransactionType.DEBIT);
+                long denominatorBalance = totalIncome + totalExpense;
+                long totalEarnings = totalIncome - totalExpense;
 
-                List<AccountMutationSummaryResponseDto.CategoryDetail> creditCategories = getCategoryDetails(mutations,
-                                TransactionType.CREDIT, totalIncome, foundUser);
-                List<AccountMutationSummaryResponseDto.CategoryDetail> debitCategories = getCategoryDetails(mutations,
-                                TransactionType.DEBIT, totalExpense, foundUser);
+                List<AccountMutationSummaryResponseDto.CategoryDetail> creditCategories = getCategoryDetails(summary,
+                                TransactionType.CREDIT, totalIncome);
+                List<AccountMutationSummaryResponseDto.CategoryDetail> debitCategories = getCategoryDetails(summary,
+                                TransactionType.DEBIT, totalExpense);
 
                 return AccountMutationSummaryResponseDto.builder()
                                 .income(AccountMutationSummaryResponseDto.IncomeDetail.builder()
                                                 .categories(creditCategories)
-                                                .totalIncome(Formatter.formatToString(totalIncome))
+                                                .totalIncome(Formatter.formatToString(Money.ofMinorUnits(totalIncome)))
                                                 .totalIncomePercentage(calculateBalancePercentage(totalIncome,
                                                                 denominatorBalance))
                                                 .build())
                                 .expense(AccountMutationSummaryResponseDto.ExpenseDetail.builder()
                                                 .categories(debitCategories)
-                                                .totalExpense(Formatter.formatToString(totalExpense))
+                                                .totalExpense(Formatter.formatToString(Money.ofMinorUnits(totalExpense)))
                                                 .totalExpensePercentage(calculateBalancePercentage(totalExpense,
                                                                 denominatorBalance))
                                                 .build())
-                                .totalEarnings(Formatter.formatToString(totalEarnings))
+                                .totalEarnings(Formatter.formatToString(Money.ofMinorUnits(totalEarnings)))
                                 .rangeStartMutationDate(rangeStartMutationDate)
                                 .rangeEndMutationDate(rangeEndMutationDate)
                                 .build();
@@ -167,71 +206,100 @@ public class AccountServiceImpl implements AccountService {
                 return rangeEndMutationDate;
         }
 
-        private double calculateBalancePercentage(double numerator, double denominator) {
-                return (denominator != 0) ? (numerator / denominator * 100) : 0.0;
+        private static boolean isClosedMonth(LocalDateTime rangeStartMutationDate) {
+                return rangeStartMutationDate.plusMonths(1).isBefore(LocalDateTime.now());
         }
 
-        private double calculateTotal(List<Mutation> mutations, TransactionType transactionType) {
-                return mutations.stream()
-                                .filter(mutation -> mutation.getTransactionType().equals(transactionType))
-                                .mapToDouble(Mutation::getAmount)
-                                .sum();
+        private double calculateBalancePercentage(long numerator, long denominator) {
+                return (denominator != 0) ? ((double) numerator / denominator * 100) : 0.0;
         }
 
-        private List<AccountMutationSummaryResponseDto.CategoryDetail> getCategoryDetails(List<Mutation> mutations,
-                        TransactionType transactionType, double denominatorBalance, User user) {
-                return mutations.stream()
-                                .filter(mutation -> mutation.getTransactionType().equals(transactionType))
-                                .collect(Collectors.groupingBy(
-                                                Mutation::getMutationType,
-                                                Collectors.summingDouble(Mutation::getAmount)))
-                                .entrySet().stream()
-                                .map(mutationsGroupedByMutationTypeSummedByMutationAmount -> AccountMutationSummaryResponseDto.CategoryDetail
-                                                .builder()
-                                                .type(mutationsGroupedByMutationTypeSummedByMutationAmount.getKey())
-                                                .numberOfTransactions(
-                                                                extractNumberOfTransaction(mutations, transactionType,
-                                                                                mutationsGroupedByMutationTypeSummedByMutationAmount
-                                                                                                .getKey()))
-                                                .totalBalance(Formatter
-                                                                .formatToString(mutationsGroupedByMutationTypeSummedByMutationAmount
-                                                                                .getValue()))
+        private List<AccountMutationSummaryResponseDto.CategoryDetail> getCategoryDetails(MutationSummary summary,
+                        TransactionType transactionType, long denominatorBalance) {
+                return summary.categories(transactionType).entrySet().stream()
+                                .map(category -> AccountMutationSummaryResponseDto.CategoryDetail.builder()
+                                                .type(category.getKey())
+                                                .numberOfTransactions(Math.toIntExact(category.getValue().count))
+                                                .totalBalance(Formatter.formatToString(Money.ofMinorUnits(category.getValue().amount)))
                                                 .totalBalancePercentage(calculateBalancePercentage(
-                                                                mutationsGroupedByMutationTypeSummedByMutationAmount
-                                                                                .getValue(),
-                                                                denominatorBalance))
-                                                .mutations(
-                                                                extractMutations(mutations, transactionType,
-                                                                                mutationsGroupedByMutationTypeSummedByMutationAmount
-                                                                                                .getKey()))
+                                                                category.getValue().amount, denominatorBalance))
+                                                .mutations(category.getValue().mutations)
                                                 .build())
                                 .toList();
         }
 
-        private Integer extractNumberOfTransaction(List<Mutation> mutations, TransactionType transactionType,
-                        MutationType mutationType) {
-                return Math.toIntExact(mutations.stream()
-                                .filter(mutation -> mutation.getTransactionType().equals(transactionType))
-                                .filter(mutation -> mutation.getMutationType().equals(mutationType))
-                                .count());
+        private static AccountMutationSummaryResponseDto.MutationDetail toMutationDetail(Mutation mutation) {
+                return AccountMutationSummaryResponseDto.MutationDetail.builder()
+                                .fullName(mutation.getFullName())
+                                .accountNumber(mutation.getAccountNumber())
+                                .amount(Formatter.formatToString(mutation.getAmount()))
+                                .description(mutation.getDescription())
+                                .createdAt(mutation.getCreatedAt())
+                                .transactionPurpose(mutation.getTransactionPurpose())
+                                .build();
         }
 
-        private List<AccountMutationSummaryResponseDto.MutationDetail> extractMutations(List<Mutation> mutations,
-                        TransactionType transactionType, MutationType mutationType) {
-                return mutations.stream()
-                                .filter(mutation -> mutation.getTransactionType().equals(transactionType))
-                                .filter(mutation -> mutation.getMutationType().equals(mutationType))
-                                .map(mutation -> AccountMutationSummaryResponseDto.MutationDetail.builder()
-                                                .fullName(mutation.getFullName())
-                                                .accountNumber(mutation.getAccountNumber())
-                                                .amount(Formatter.formatToString(mutation.getAmount()))
-                                                .description(mutation.getDescription())
-                                                .createdAt(mutation.getCreatedAt())
-                                                .transactionPurpose(mutation.getTransactionPurpose())
-                                                .build())
-                                .toList()
-                                .stream()
-                                .toList();
+        /*
+         * Accumulates count, sum and (optionally) detail rows per TransactionType and
+         * MutationType, so the month is walked exactly once.
+         */
+        private static final class MutationSummary {
+                private final boolean includeMutations;
+                private final Map<TransactionType, Map<MutationType, CategoryTotal>> totals = new EnumMap<>(
+                                TransactionType.class);
+
+                private MutationSummary(boolean includeMutations) {
+                        this.includeMutations = includeMutations;
+                }
+
+                private void add(Mutation mutation) {
+                        CategoryTotal category = category(mutation.getTransactionType(), mutation.getMutationType());
+                        category.count++;
+                        category.amount += mutation.getAmount().getMinorUnits();
+                        if (includeMutations) {
+                                category.mutations.add(toMutationDetail(mutation));
+                        }
+                }
+
+                private void add(MutationRepository.MutationAggregate aggregate) {
+                        CategoryTotal category = category(aggregate.getTransactionType(), aggregate.getMutationType());
+                        category.count += aggregate.getNumberOfTransactions();
+                        category.amount += aggregate.getTotalAmount();
+                }
+
+                private void add(MutationRollup rollup) {
+                        CategoryTotal category = category(rollup.getTransactionType(), rollup.getMutationType());
+                        category.count += rollup.getNumberOfTransactions();
+                        category.amount += rollup.getTotalAmount().getMinorUnits();
+                }
+
+                private CategoryTotal category(TransactionType transactionType, MutationType mutationType) {
+                        return totals.computeIfAbsent(transactionType, key -> new EnumMap<>(MutationType.class))
+                                        .computeIfAbsent(mutationType,
+                                                        key -> new CategoryTotal(includeMutations ? new ArrayList<>() : null));
+                }
+
+                private Map<MutationType, CategoryTotal> categories(TransactionType transactionType) {
+                        return totals.getOrDefault(transactionType, Collections.emptyMap());
+                }
+
+                private long total(TransactionType transactionType) {
+                        long total = 0;
+                        for (CategoryTotal category : categories(transactionType).values()) {
+                                total += category.amount;
+                        }
+                        return total;
+                }
+        }
+
+        private static final class CategoryTotal {
+                private long count;
+                private long amount;
+                private final List<AccountMutationSummaryResponseDto.MutationDetail> mutations;
+
+                private CategoryTotal(List<AccountMutationSummaryResponseDto.MutationDetail> mutations) {
+                        this.mutations = mutations;
+                }
         }
 
         @Override
@@ -240,10 +308,9 @@ public class AccountServiceImpl implements AccountService {
                 Mutation mutation = mutationRepository.findById(mutationId)
                                 .orElseThrow(() -> new DataNotFoundException("Mutation not found"));
 
-                User user = userRepository.findByUsername(principal.getName())
-                                .orElseThrow(() -> new DataNotFoundException("User not found"));
+                UUID userId = findUserIdByPrincipal(principal);
 
-                if (!mutation.getUser().getId().equals(user.getId())) {
+                if (!mutation.getUser().getId().equals(userId)) {
                         throw new UnauthorizedException("User is not authorized to access this mutation");
                 }
 
@@ -263,7 +330,7 @@ public class AccountServiceImpl implements AccountService {
                 QrisTransferResponseDto qrisResponseDto = new QrisTransferResponseDto();
                 qrisResponseDto.setMutationId(mutation.getId().toString());
                 qrisResponseDto.setMerchant(mutation.getFullName());
-                qrisResponseDto.setAmount(String.valueOf(mutation.getAmount()));
+                qrisResponseDto.setAmount(mutation.getAmount().toPlainString());
                 qrisResponseDto.setDescription(mutation.getDescription());
                 return qrisResponseDto;
         }
@@ -305,101 +372,95 @@ public class AccountServiceImpl implements AccountService {
         @Override
         public Page<MutationResponseDto> getMutations(Principal principal, MutationDto mutationDto, int page,
                         int size) {
-                User user = findUserByPrincipal(principal);
+                UUID userId = findUserIdByPrincipal(principal);
 
                 validateDateRange(mutationDto);
 
-                List<Mutation> filteredMutations = filterMutations(user.getMutations(), mutationDto);
+                Pageable pageable = PageRequest.of(page, size, MUTATION_SORT);
 
-                List<MutationResponseDto> mutationDtos = mapToMutationResponseDtos(filteredMutations, page, size);
-
-                return new PageImpl<>(mutationDtos, PageRequest.of(page, size), filteredMutations.size());
+                return mutationRepository.findAll(MutationSpecification.filter(userId, mutationDto), pageable)
+                                .map(this::mapToMutationResponseDto);
         }
 
-        private User findUserByPrincipal(Principal principal) {
-                return userRepository.findByUsername(principal.getName())
-                                .orElseThrow(() -> new DataNotFoundException("User not found"));
-        }
+        @Override
+        public MutationCursorPageDto getMutations(Principal principal, MutationDto mutationDto, String cursor,
+                        int size) {
+                if (size < 1) {
+                        throw new BadRequestException("Size must be greater than zero");
+                }
 
-        private void validateDateRange(MutationDto mutationDto) {
-                if (mutationDto.getStartDate() != null && mutationDto.getEndDate() != null
-                                && mutationDto.getStartDate().isAfter(mutationDto.getEndDate())) {
-                        throw new BadRequestException("Start date cannot be greater than end date");
+                UUID userId = findUserIdByPrincipal(principal);
+
+                validateDateRange(mutationDto);
+
+                Specification<Mutation> specification = MutationSpecification.filter(userId, mutationDto);
+                if (cursor != null && !cursor.isBlank()) {
+                        specification = specification.and(decodeCursor(cursor));
                 }
+
+                /*
+                 * Fetch one row more than requested to know whether a next page exists
+                 * without issuing a count query.
+                 */
+                List<Mutation> mutations = mutationRepository.findBy(specification, query -> query
+                                .sortBy(MUTATION_SORT)
+                                .limit(size + 1)
+                                .all());
+
+                boolean hasNext = mutations.size() > size;
+                List<Mutation> pageMutations = hasNext ? mutations.subList(0, size) : mutations;
+
+                return MutationCursorPageDto.builder()
+                                .content(pageMutations.stream().map(this::mapToMutationResponseDto).toList())
+                                .size(size)
+                                .hasNext(hasNext)
+                                .nextCursor(hasNext ? encodeCursor(pageMutations.get(size - 1)) : null)
+                                .build();
         }
 
-        private List<Mutation> filterMutations(List<Mutation> mutations, MutationDto mutationDto) {
-                DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-                DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm 'WIB'");
-
-                return mutations.stream()
-                                .sorted(Comparator.comparing(Mutation::getCreatedAt).reversed())
-                                .filter(mutation -> isWithinDateRange(mutation, mutationDto))
-                                .filter(mutation -> matchesCategory(mutation, mutationDto))
-                                .filter(mutation -> matchesSearchCriteria(mutation, mutationDto, dateFormatter,
-                                                timeFormatter))
-                                .collect(Collectors.toList());
+        private static String encodeCursor(Mutation mutation) {
+                String raw = mutation.getCreatedAt() + CURSOR_SEPARATOR + mutation.getId();
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
         }
 
-        private boolean isWithinDateRange(Mutation mutation, MutationDto mutationDto) {
-                return (mutationDto.getStartDate() == null
-                                || !mutation.getCreatedAt().toLocalDate().isBefore(mutationDto.getStartDate()))
-                                && (mutationDto.getEndDate() == null || !mutation.getCreatedAt().toLocalDate()
-                                                .isAfter(mutationDto.getEndDate()));
+        private static Specification<Mutation> decodeCursor(String cursor) {
+                try {
+                        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                        int separator = raw.indexOf(CURSOR_SEPARATOR);
+                        if (separator < 0) {
+                                throw new BadRequestException("Invalid cursor");
+                        }
+
+                        return MutationSpecification.after(LocalDateTime.parse(raw.substring(0, separator)),
+                                        UUID.fromString(raw.substring(separator + 1)));
+                } catch (IllegalArgumentException | DateTimeParseException e) {
+                        throw new BadRequestException("Invalid cursor");
+                }
         }
 
-        private boolean matchesCategory(Mutation mutation, MutationDto mutationDto) {
-                return mutationDto.getCategory() == null
-                                || mutation.getTransactionType().equals(mutationDto.getCategory());
+        private UUID findUserIdByPrincipal(Principal principal) {
+                return authenticatedUserService.resolve(principal).getId();
         }
 
-        private boolean matchesSearchCriteria(Mutation mutation, MutationDto mutationDto,
-                        DateTimeFormatter dateFormatter, DateTimeFormatter timeFormatter) {
-                if (mutationDto.getSearch() == null) {
-                        return true;
+        private void validateDateRange(MutationDto mutationDto) {
+                if (mutationDto.getStartDate() != null && mutationDto.getEndDate() != null
+                                && mutationDto.getStartDate().isAfter(mutationDto.getEndDate())) {
+                        throw new BadRequestException("Start date cannot be greater than end date");
                 }
-
-                String search = mutationDto.getSearch().toLowerCase();
-
-                return (mutation.getFullName() != null && mutation.getFullName().toLowerCase().contains(search))
-                                || (mutation.getAmount() != null
-                                                && String.valueOf(mutation.getAmount()).contains(search))
-                                || (mutation.getAccountNumber() != null && mutation.getAccountNumber().contains(search))
-                                || (mutation.getCreatedAt() != null && mutation.getCreatedAt().toLocalDate()
-                                                .format(dateFormatter).contains(search))
-                                || (mutation.getCreatedAt() != null && mutation.getCreatedAt().toLocalTime()
-                                                .format(timeFormatter).contains(search))
-                                || (mutation.getDescription() != null
-                                                && mutation.getDescription().toLowerCase().contains(search))
-                                || (mutation.getMutationType() != null && mutation.getMutationType().toString()
-                                                .toLowerCase().contains(search));
         }
 
-        private List<MutationResponseDto> mapToMutationResponseDtos(List<Mutation> filteredMutations, int page,
-                        int size) {
-                DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm 'WIB'");
-                int start = page * size;
-                int end = Math.min(start + size, filteredMutations.size());
-
-                List<Mutation> paginatedMutations = start < filteredMutations.size()
-                                ? filteredMutations.subList(start, end)
-                                : Collections.emptyList();
-
-                return paginatedMutations.stream()
-                                .map(mutation -> {
-                                        MutationResponseDto dto = modelMapper.map(mutation, MutationResponseDto.class);
-                                        dto.setDate(mutation.getCreatedAt().toLocalDate());
-                                        dto.setTime(mutation.getCreatedAt().toLocalTime().format(timeFormatter));
-
-                                        if (mutation.getMutationType() == MutationType.TRANSFER
-                                                        || mutation.getMutationType() == MutationType.QR) {
-                                                dto.setBankName("Rupi App");
-                                        } else {
-                                                dto.setBankName(null);
-                                        }
-                                        return dto;
-                                })
-                                .collect(Collectors.toList());
+        private MutationResponseDto mapToMutationResponseDto(Mutation mutation) {
+                MutationResponseDto dto = modelMapper.map(mutation, MutationResponseDto.class);
+                dto.setDate(mutation.getCreatedAt().toLocalDate());
+                dto.setTime(mutation.getCreatedAt().toLocalTime().format(TIME_FORMATTER));
+
+                if (mutation.getMutationType() == MutationType.TRANSFER
+                                || mutation.getMutationType() == MutationType.QR) {
+                        dto.setBankName("Rupi App");
+                } else {
+                        dto.setBankName(null);
+                }
+                return dto;
         }
 
 }
@@ -0,0 +1,13 @@
+package com.team7.rupiapp.service;
+
+import java.security.Principal;
+
+import com.team7.rupiapp.model.AuthenticatedUser;
+
+public interface AuthenticatedUserService {
+    AuthenticatedUser loadByUsername(String username);
+
+    AuthenticatedUser resolve(Principal principal);
+
+    void evict(String username);
+}
@@ -0,0 +1,69 @@
+package com.team7.rupiapp.service;
+
+import java.security.Principal;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import com.team7.rupiapp.model.AuthenticatedUser;
+import com.team7.rupiapp.repository.UserRepository;
+import com.team7.rupiapp.util.ExpiringCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Service
+public class AuthenticatedUserServiceImpl implements AuthenticatedUserService {
+    private final UserRepository userRepository;
+    private final ExpiringCache<String, AuthenticatedUser> cache;
+
+    @Value("${app.principal-cache.ttl:30000}")
+    private long ttl;
+
+    public AuthenticatedUserServiceImpl(UserRepository userRepository, MeterRegistry meterRegistry,
+            @Value("${app.principal-cache.max-size:100000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.cache = new ExpiringCache<>(maxSize);
+
+        FunctionCounter.builder("cache.gets", cache, ExpiringCache::hitCount)
+                .tags("cache", "principals", "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cache, ExpiringCache::missCount)
+                .tags("cache", "principals", "result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", cache, ExpiringCache::size)
+                .tags("cache", "principals")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public AuthenticatedUser loadByUsername(String username) {
+        AuthenticatedUser user = cache.get(username);
+
+        if (user == null) {
+            user = userRepository.findAuthenticatedUserByUsername(username)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+            cache.put(username, user, System.currentTimeMillis() + ttl);
+        }
+
+        return user;
+    }
+
+    @Override
+    public AuthenticatedUser resolve(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user;
+        }
+
+        return loadByUsername(principal.getName());
+    }
+
+    @Override
+    public void evict(String username) {
+        cache.invalidate(username);
+    }
+}
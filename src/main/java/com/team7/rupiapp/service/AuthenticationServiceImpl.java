@@ -59,6 +59,10 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
     private final WhatsappClient whatsappClient;
     private final GenerateService generateService;
+    private final OtpService otpService;
+    private final CredentialVerificationService credentialVerificationService;
+    private final AuthenticatedUserService authenticatedUserService;
+    private final CurrentUserService currentUserService;
 
     public AuthenticationServiceImpl(
             ModelMapper modelMapper,
@@ -70,7 +74,11 @@ public class AuthenticationServiceImpl implements AuthenticationService {
             UserRepository userRepository,
             OtpRepository otpRepository,
             WhatsappClient whatsappClient,
-            GenerateService generateService) {
+            GenerateService generateService,
+            AuthenticatedUserService authenticatedUserService,
+            CurrentUserService currentUserService,
+            OtpService otpService,
+            CredentialVerificationService credentialVerificationService) {
         this.modelMapper = modelMapper;
         this.jwtService = jwtService;
         this.passwordEncoder = passwordEncoder;
@@ -81,6 +89,10 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         this.otpRepository = otpRepository;
         this.whatsappClient = whatsappClient;
         this.generateService = generateService;
+        this.authenticatedUserService = authenticatedUserService;
+        this.currentUserService = currentUserService;
+        this.otpService = otpService;
+        this.credentialVerificationService = credentialVerificationService;
     }
 
     @Value("${client.wahub.key}")
@@ -281,7 +293,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
     public ResponseEntity<Object> handleVerifyLogin(Principal principal, String userAgent,
             VerificationDto verificationDto) {
-        User user = userRepository.findByUsername(principal.getName())
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
         Otp otp = otpRepository.findByUserAndType(user, OtpType.LOGIN)
@@ -292,10 +304,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
             throw new BadRequestException("OTP expired");
         }
 
-        if (!passwordEncoder.matches(verificationDto.getOtp(), otp.getCode())) {
-            throw new BadRequestException("Invalid OTP");
-        }
-
+        otpService.verify(otp, verificationDto.getOtp());
         otpRepository.delete(otp);
 
         String token = getAuthenticationToken();
@@ -307,6 +316,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         if (!user.isVerified()) {
             user.setVerified(true);
             userRepository.save(user);
+            authenticatedUserService.evict(user.getUsername());
 
             return ApiResponseUtil.success(HttpStatus.OK, "Registration verified");
         }
@@ -338,19 +348,18 @@ public class AuthenticationServiceImpl implements AuthenticationService {
             throw new BadRequestException("OTP expired");
         }
 
-        if (passwordEncoder.matches(verificationDto.getOtp(), otp.getCode())) {
-            notifierService.sendAlertEmail(user.getEmail(), user.getAlias(), "Reset Password Berhasil",
-                    "Password Anda berhasil diubah per tanggal {time}. Jika Anda tidak merasa melakukan perubahan ini, segera hubungi kami.");
+        otpService.verify(otp, verificationDto.getOtp());
 
-            user.setPassword(passwordEncoder.encode(verificationDto.getPassword()));
-            user.setDefaultPassword(false);
-            userRepository.save(user);
-            otpRepository.delete(otp);
+        notifierService.sendAlertEmail(user.getEmail(), user.getAlias(), "Reset Password Berhasil",
+                "Password Anda berhasil diubah per tanggal {time}. Jika Anda tidak merasa melakukan perubahan ini, segera hubungi kami.");
 
-            return ApiResponseUtil.success(HttpStatus.OK, "Password changed");
-        } else {
-            throw new BadRequestException("Invalid OTP");
-        }
+        user.setPassword(passwordEncoder.encode(verificationDto.getPassword()));
+        user.setDefaultPassword(false);
+        userRepository.save(user);
+        authenticatedUserService.evict(user.getUsername());
+        otpRepository.delete(otp);
+
+        return ApiResponseUtil.success(HttpStatus.OK, "Password changed");
     }
 
     @Override
@@ -362,7 +371,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
         if (jwtService.isRefreshTokenValid(refreshToken, user)) {
-            if (!passwordEncoder.matches(refreshTokenDto.getPin(), user.getPin())) {
+            if (!credentialVerificationService.matches(refreshTokenDto.getPin(), user.getPin())) {
                 throw new BadRequestException("Invalid pin");
             }
 
@@ -379,7 +388,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
     @Override
     public void setPassword(Principal principal, SetPasswordDto setPasswordDto) {
-        User user = userRepository.findByUsername(principal.getName())
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
         if (!user.isDefaultPassword()) {
@@ -393,6 +402,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         user.setPassword(passwordEncoder.encode(setPasswordDto.getPassword()));
         user.setDefaultPassword(false);
         userRepository.save(user);
+        authenticatedUserService.evict(user.getUsername());
     }
 
     @Override
@@ -401,7 +411,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
             throw new BadRequestException("Pin and confirm pin must be the same");
         }
 
-        User user = userRepository.findByUsername(principal.getName())
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
         if (user.getPin() != null) {
@@ -410,6 +420,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
         user.setPin(passwordEncoder.encode(setPinDto.getPin()));
         userRepository.save(user);
+        authenticatedUserService.evict(user.getUsername());
     }
 
     @Override
@@ -0,0 +1,10 @@
+package com.team7.rupiapp.service;
+
+import com.team7.rupiapp.model.Money;
+import com.team7.rupiapp.model.User;
+
+public interface BalanceService {
+    void transfer(User sender, User receiver, Money amount);
+
+    void debit(User user, Money amount);
+}
@@ -0,0 +1,68 @@
+package com.team7.rupiapp.service;
+
+import org.springframework.stereotype.Service;
+
+import com.team7.rupiapp.exception.BadRequestException;
+import com.team7.rupiapp.exception.DataNotFoundException;
+import com.team7.rupiapp.model.Money;
+import com.team7.rupiapp.model.User;
+import com.team7.rupiapp.repository.UserRepository;
+
+import jakarta.transaction.Transactional;
+
+/*
+ * Balances are changed with conditional UPDATE statements rather than by
+ * saving the User entity, so each party costs a single row write and the
+ * balance check cannot race with a concurrent transfer. The managed User
+ * instances are not refreshed afterwards; read the balance again if needed.
+ *
+ * This is the one place balances change, so the amount is checked here: a
+ * valid CRC doesn't make a QRIS amount trustworthy, and a negative debit
+ * would credit the payer.
+ */
+@Service
+public class BalanceServiceImpl implements BalanceService {
+    private final UserRepository userRepository;
+
+    public BalanceServiceImpl(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    @Transactional
+    public void transfer(User sender, User receiver, Money amount) {
+        requirePositive(amount);
+
+        // Rows are always updated in ascending id order so that two opposite
+        // transfers (A to B and B to A) cannot deadlock each other.
+        if (sender.getId().compareTo(receiver.getId()) < 0) {
+            debit(sender, amount);
+            credit(receiver, amount);
+        } else {
+            credit(receiver, amount);
+            debit(sender, amount);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void debit(User user, Money amount) {
+        requirePositive(amount);
+
+        if (userRepository.debitBalance(user.getId(), amount.getMinorUnits()) == 0) {
+            throw new BadRequestException("Insufficient balance");
+        }
+    }
+
+    private static void requirePositive(Money amount) {
+        if (amount == null || !amount.isPositive()) {
+            throw new BadRequestException("Amount must be greater than zero");
+        }
+    }
+
+    private void credit(User user, Money amount) {
+        if (userRepository.creditBalance(user.getId(), amount.getMinorUnits()) == 0) {
+            throw new DataNotFoundException("User not found");
+        }
+    }
+}
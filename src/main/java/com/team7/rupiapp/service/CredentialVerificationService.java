@@ -0,0 +1,5 @@
+package com.team7.rupiapp.service;
+
+public interface CredentialVerificationService {
+    boolean matches(String rawCredential, String encodedCredential);
+}
@@ -0,0 +1,104 @@
+package com.team7.rupiapp.service;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.team7.rupiapp.exception.ServiceBusyException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+
+/*
+ * Runs BCrypt checks of passwords and PINs on a small pool of its own, sized
+ * to the CPUs by default, instead of on the request thread. A burst of
+ * transfers or logins then queues here, up to app.credentials.queue-capacity,
+ * and beyond that is rejected at once with 503 rather than occupying every
+ * Tomcat thread with hashing while cheap endpoints wait.
+ *
+ * Metrics: app.credentials.queue (time waiting for a thread),
+ * app.credentials.rejected, and executor.* for the pool.
+ */
+@Service
+public class CredentialVerificationServiceImpl implements CredentialVerificationService {
+    private static final String BUSY = "Server is busy, please try again";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer queueTimer;
+    private final Counter rejected;
+
+    @Value("${app.credentials.timeout:5000}")
+    private long timeout;
+
+    public CredentialVerificationServiceImpl(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+            @Value("${app.credentials.pool-size:0}") int poolSize,
+            @Value("${app.credentials.queue-capacity:200}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("credentials-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        new ExecutorServiceMetrics(executor, "credentials", List.of(Tag.of("pool", "credentials")))
+                .bindTo(meterRegistry);
+        this.queueTimer = Timer.builder("app.credentials.queue")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("app.credentials.rejected")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean matches(String rawCredential, String encodedCredential) {
+        long submittedAt = System.nanoTime();
+
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> {
+                queueTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return passwordEncoder.matches(rawCredential, encodedCredential);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceBusyException(BUSY);
+        }
+
+        try {
+            return result.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            rejected.increment();
+            throw new ServiceBusyException(BUSY);
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException(BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        executor.shutdown();
+    }
+}
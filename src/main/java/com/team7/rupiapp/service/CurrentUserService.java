@@ -0,0 +1,10 @@
+package com.team7.rupiapp.service;
+
+import java.security.Principal;
+import java.util.Optional;
+
+import com.team7.rupiapp.model.User;
+
+public interface CurrentUserService {
+    Optional<User> find(Principal principal);
+}
@@ -0,0 +1,51 @@
+package com.team7.rupiapp.service;
+
+import java.security.Principal;
+import java.util.Optional;
+
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.annotation.RequestScope;
+
+import com.team7.rupiapp.model.User;
+import com.team7.rupiapp.repository.UserRepository;
+
+/*
+ * Loads the User entity behind the request principal at most once per HTTP
+ * request; every service asking for it afterwards gets the same instance.
+ * The principal itself is resolved by AuthenticatedUserService, the same
+ * AuthenticatedUser the security filter put on the request, so the entity is
+ * fetched by primary key rather than looked up by username a second time.
+ */
+@Service
+@RequestScope
+public class CurrentUserServiceImpl implements CurrentUserService {
+    private final UserRepository userRepository;
+    private final AuthenticatedUserService authenticatedUserService;
+
+    private String username;
+    private Optional<User> user;
+
+    public CurrentUserServiceImpl(UserRepository userRepository, AuthenticatedUserService authenticatedUserService) {
+        this.userRepository = userRepository;
+        this.authenticatedUserService = authenticatedUserService;
+    }
+
+    @Override
+    public Optional<User> find(Principal principal) {
+        if (user == null || !principal.getName().equals(username)) {
+            username = principal.getName();
+            user = load(principal);
+        }
+
+        return user;
+    }
+
+    private Optional<User> load(Principal principal) {
+        try {
+            return userRepository.findById(authenticatedUserService.resolve(principal).getId());
+        } catch (UsernameNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+}
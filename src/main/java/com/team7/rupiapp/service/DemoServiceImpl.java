@@ -2,11 +2,11 @@ package com.team7.rupiapp.service;
 
 import java.time.LocalDateTime;
 
-import com.team7.rupiapp.model.User;
-import com.team7.rupiapp.repository.UserRepository;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
+import jakarta.transaction.Transactional;
+
 import com.team7.rupiapp.dto.demo.DemoQrisCPMDto;
 import com.team7.rupiapp.enums.MutationType;
 import com.team7.rupiapp.enums.TransactionPurpose;
@@ -22,17 +22,21 @@ public class DemoServiceImpl implements DemoService {
     private final ModelMapper modelMapper;
     private final QrisRepository qrisRepository;
     private final MutationRepository mutationRepository;
-    private final UserRepository userRepository;
+    private final MutationRollupService mutationRollupService;
+    private final BalanceService balanceService;
 
     public DemoServiceImpl(ModelMapper modelMapper, QrisRepository qrisRepository,
-                           MutationRepository mutationRepository, UserRepository userRepository) {
+                           MutationRepository mutationRepository,
+                           MutationRollupService mutationRollupService, BalanceService balanceService) {
         this.modelMapper = modelMapper;
         this.qrisRepository = qrisRepository;
         this.mutationRepository = mutationRepository;
-        this.userRepository = userRepository;
+        this.mutationRollupService = mutationRollupService;
+        this.balanceService = balanceService;
     }
 
     @Override
+    @Transactional
     public void demoQrisCPM(DemoQrisCPMDto demoQrisCPMDto) {
         Qris qris = qrisRepository.findByPayload(demoQrisCPMDto.getQris());
 
@@ -48,14 +52,7 @@ public class DemoServiceImpl implements DemoService {
             throw new BadRequestException("Qris is expired");
         }
         
-        if (demoQrisCPMDto.getAmount() > qris.getUser().getBalance()) {
-            throw new BadRequestException("Insufficient balance");
-        }
-
-        User user = qris.getUser();
-
-        user.setBalance(user.getBalance() - demoQrisCPMDto.getAmount());
-        userRepository.save(user);
+        balanceService.debit(qris.getUser(), demoQrisCPMDto.getAmount());
 
         Mutation mutation = modelMapper.map(demoQrisCPMDto, Mutation.class);
         mutation.setUser(qris.getUser());
@@ -65,6 +62,7 @@ public class DemoServiceImpl implements DemoService {
         mutation.setTransactionPurpose(TransactionPurpose.PURCHASE);
         mutation.setFullName(demoQrisCPMDto.getMerchant());
         mutationRepository.save(mutation);
+        mutationRollupService.record(mutation);
 
         qris.setUsed(true);
 
@@ -1,6 +1,7 @@
 package com.team7.rupiapp.service;
 
 import java.awt.image.BufferedImage;
+import java.util.List;
 
 import com.team7.rupiapp.enums.OtpType;
 import com.team7.rupiapp.model.User;
@@ -20,6 +21,10 @@ public interface GenerateService {
 
     public BufferedImage generateQRCodeImage(String qrContent, int width, int height, BufferedImage image);
 
+    public String generateQRCodeSvg(String qrContent);
+
+    public List<String> generateQRCodeMatrix(String qrContent);
+
     public String generateQrisMPM(User user, String transactionId, Integer amount);
 
     public String generateQrisCPM(User user, String transactionId);
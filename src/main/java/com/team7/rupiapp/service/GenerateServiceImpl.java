@@ -15,31 +15,32 @@ import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import com.google.zxing.BarcodeFormat;
 import com.google.zxing.WriterException;
-import com.google.zxing.common.BitMatrix;
-import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+import com.google.zxing.qrcode.encoder.Encoder;
 import com.team7.rupiapp.enums.OtpType;
-import com.team7.rupiapp.model.Otp;
 import com.team7.rupiapp.model.User;
 import com.team7.rupiapp.repository.OtpRepository;
+import com.team7.rupiapp.util.QrCodeRenderer;
 import com.team7.rupiapp.util.QrisUtil;
 import com.team7.rupiapp.util.QrisUtil.AdditionalDataFieldTemplate;
 import com.team7.rupiapp.util.QrisUtil.MerchantAccountInformation;
 
 import jakarta.annotation.PostConstruct;
-import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
 public class GenerateServiceImpl implements GenerateService {
     private static final String ALGORITHM = "HmacSHA256";
+    private static final ThreadLocal<StringBuilder> MPM_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+    private static final ThreadLocal<QrisUtil.PayloadBuffer> CPM_BUFFER = ThreadLocal
+            .withInitial(QrisUtil.PayloadBuffer::new);
     private final Random random = new Random();
-    private final PasswordEncoder passwordEncoder;
+    private final OtpService otpService;
     private final OtpRepository otpRepository;
 
     private List<String> testerList;
@@ -53,8 +54,8 @@ public class GenerateServiceImpl implements GenerateService {
     @Value("${test.tester:}")
     private String tester;
 
-    public GenerateServiceImpl(PasswordEncoder passwordEncoder, OtpRepository otpRepository) {
-        this.passwordEncoder = passwordEncoder;
+    public GenerateServiceImpl(OtpService otpService, OtpRepository otpRepository) {
+        this.otpService = otpService;
         this.otpRepository = otpRepository;
     }
 
@@ -68,18 +69,9 @@ public class GenerateServiceImpl implements GenerateService {
         return String.format("%0" + otpCodeLength + "d", code);
     }
 
-    @Transactional
-    private synchronized void createOtp(User user, OtpType type, String newValue, String otpCode) {
-        otpRepository.findByUserAndType(user, type).ifPresent(otpRepository::delete);
-
-        Otp otp = new Otp();
-        otp.setCode(passwordEncoder.encode(otpCode));
-        otp.setUser(user);
-        otp.setExpiryDate(LocalDateTime.now().plusMinutes(otpExpirationTime));
-        otp.setType(type);
-        otp.setNewValue(newValue);
-
-        otpRepository.save(otp);
+    private void createOtp(User user, OtpType type, String newValue, String otpCode) {
+        otpRepository.upsert(user.getId(), type.name(), otpService.hash(otpCode),
+                LocalDateTime.now().plusMinutes(otpExpirationTime), newValue);
     }
 
     @Override
@@ -176,29 +168,49 @@ public class GenerateServiceImpl implements GenerateService {
 
     @Override
     public BufferedImage generateQRCodeImage(String qrContent, int width, int height, BufferedImage image) {
-        QRCodeWriter qrCodeWriter = new QRCodeWriter();
-        try {
-            BitMatrix bitMatrix = qrCodeWriter.encode(qrContent, BarcodeFormat.QR_CODE, width, height);
-            BufferedImage qrImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        if (width < 0 || height < 0) {
+            throw new IllegalArgumentException("Requested dimensions are too small: " + width + 'x' + height);
+        }
 
-            for (int x = 0; x < width; x++) {
-                for (int y = 0; y < height; y++) {
-                    qrImage.setRGB(x, y, bitMatrix.get(x, y) ? 0x000000 : 0xFFFFFF);
-                }
-            }
+        ByteMatrix modules = encodeModules(qrContent);
+        boolean hasLogo = image != null && image.getWidth() > 0 && image.getHeight() > 0;
 
-            if (image != null && image.getWidth() > 0 && image.getHeight() > 0) {
-                int logoWidth = Math.min(image.getWidth(), width / 5);
-                int logoHeight = Math.min(image.getHeight(), height / 5);
-                int logoX = (width - logoWidth) / 2;
-                int logoY = (height - logoHeight) / 2;
+        // Only a logo needs colour; plain codes stay a 1-bit raster all the way to PNG.
+        BufferedImage qrImage = hasLogo
+                ? QrCodeRenderer.renderRgb(modules, width, height)
+                : QrCodeRenderer.renderBinary(modules, width, height);
 
-                Graphics2D g = qrImage.createGraphics();
-                g.drawImage(image, logoX, logoY, logoWidth, logoHeight, null);
-                g.dispose();
-            }
+        if (hasLogo) {
+            int logoWidth = Math.min(image.getWidth(), width / 5);
+            int logoHeight = Math.min(image.getHeight(), height / 5);
+            int logoX = (width - logoWidth) / 2;
+            int logoY = (height - logoHeight) / 2;
+
+            Graphics2D g = qrImage.createGraphics();
+            g.drawImage(image, logoX, logoY, logoWidth, logoHeight, null);
+            g.dispose();
+        }
+
+        return qrImage;
+    }
+
+    @Override
+    public String generateQRCodeSvg(String qrContent) {
+        return QrCodeRenderer.renderSvg(encodeModules(qrContent));
+    }
+
+    @Override
+    public List<String> generateQRCodeMatrix(String qrContent) {
+        return QrCodeRenderer.renderRows(encodeModules(qrContent));
+    }
 
-            return qrImage;
+    private ByteMatrix encodeModules(String qrContent) {
+        if (qrContent.isEmpty()) {
+            throw new IllegalArgumentException("Found empty contents");
+        }
+
+        try {
+            return Encoder.encode(qrContent, ErrorCorrectionLevel.L).getMatrix();
         } catch (WriterException e) {
             log.error("Error generating QR code", e);
             throw new RuntimeException("Error generating QR code");
@@ -232,7 +244,10 @@ public class GenerateServiceImpl implements GenerateService {
         qris.setAdditionalDataFieldTemplate(additionalDataFieldTemplate);
 
         try {
-            return QrisUtil.MPM.encode(qris);
+            StringBuilder buffer = MPM_BUFFER.get();
+            buffer.setLength(0);
+            QrisUtil.MPM.encode(qris, buffer);
+            return buffer.toString();
         } catch (Exception e) {
             log.error("Error generating QRIS MPM", e);
             throw new RuntimeException("Error generating QRIS");
@@ -264,7 +279,10 @@ public class GenerateServiceImpl implements GenerateService {
         qris.getCommonDataTemplates().add(cdt);
 
         try {
-            return qris.generatePayload();
+            QrisUtil.PayloadBuffer buffer = CPM_BUFFER.get();
+            buffer.reset();
+            qris.writePayload(buffer);
+            return buffer.toBase64();
         } catch (Exception e) {
             log.error("Error generating QRIS CPM", e);
             throw new RuntimeException("Error generating QRIS");
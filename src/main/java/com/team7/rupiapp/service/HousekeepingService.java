@@ -0,0 +1,5 @@
+package com.team7.rupiapp.service;
+
+public interface HousekeepingService {
+    void purgeExpired();
+}
@@ -0,0 +1,97 @@
+package com.team7.rupiapp.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.BiFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.team7.rupiapp.repository.OtpRepository;
+import com.team7.rupiapp.repository.QrisRepository;
+import com.team7.rupiapp.repository.TokenRepository;
+import com.team7.rupiapp.util.AdvisoryLock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Deletes token, OTP and QRIS rows that expired more than the retention ago.
+ * Rows go in small batches, each its own short transaction, so a large
+ * backlog never holds long locks. Only one instance of the application runs
+ * the purge at a time: it holds a PostgreSQL advisory lock for the duration
+ * of the run, and instances that don't get it skip that run.
+ *
+ * Metrics: app.housekeeping.purged (rows, per table) and
+ * app.housekeeping.run (duration, outcome purged or skipped).
+ */
+@Slf4j
+@Service
+public class HousekeepingServiceImpl implements HousekeepingService {
+    // Advisory lock id, only has to be unique among the locks this database uses
+    private static final long LOCK_KEY = 4_206_301_722L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TokenRepository tokenRepository;
+    private final OtpRepository otpRepository;
+    private final QrisRepository qrisRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.housekeeping.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.housekeeping.retention:86400000}")
+    private long retention;
+
+    public HousekeepingServiceImpl(JdbcTemplate jdbcTemplate, TokenRepository tokenRepository,
+            OtpRepository otpRepository, QrisRepository qrisRepository, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tokenRepository = tokenRepository;
+        this.otpRepository = otpRepository;
+        this.qrisRepository = qrisRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    @Scheduled(cron = "${app.housekeeping.cron:0 */15 * * * *}")
+    public void purgeExpired() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        boolean purged = AdvisoryLock.tryRun(jdbcTemplate, LOCK_KEY, () -> {
+            LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(retention));
+            purge("tokens", cutoff, tokenRepository::deleteExpiredBefore);
+            purge("otps", cutoff, otpRepository::deleteExpiredBefore);
+            purge("qris", cutoff, qrisRepository::deleteExpiredBefore);
+        });
+
+        sample.stop(Timer.builder("app.housekeeping.run")
+                .tag("outcome", purged ? "purged" : "skipped")
+                .register(meterRegistry));
+
+        if (!purged) {
+            log.debug("housekeeping skipped, another instance holds the lock");
+        }
+    }
+
+    private void purge(String table, LocalDateTime cutoff, BiFunction<LocalDateTime, Integer, Integer> deleteBatch) {
+        Counter purged = Counter.builder("app.housekeeping.purged")
+                .tag("table", table)
+                .register(meterRegistry);
+
+        long total = 0;
+        int deleted;
+        do {
+            deleted = deleteBatch.apply(cutoff, batchSize);
+            purged.increment(deleted);
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            log.info("housekeeping purged {} rows from {} expired before {}", total, table, cutoff);
+        }
+    }
+}
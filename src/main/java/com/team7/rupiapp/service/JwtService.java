@@ -2,13 +2,19 @@ package com.team7.rupiapp.service;
 
 import org.springframework.security.core.userdetails.UserDetails;
 
+import io.jsonwebtoken.Claims;
+
 public interface JwtService {
     public String[] generateToken(UserDetails userDetails);
 
     public String generateToken(UserDetails userDetails, String refreshToken);
 
+    public Claims parseToken(String token);
+
     public boolean isTokenValid(String token, UserDetails userDetails);
 
+    public boolean isTokenValid(Claims claims, UserDetails userDetails);
+
     public boolean isRefreshTokenValid(String token, UserDetails userDetails);
 
     public String extractUsername(String token);
@@ -17,6 +23,8 @@ public interface JwtService {
 
     public boolean isTokenEnabled(String token);
 
+    public boolean isTokenEnabled(Claims claims);
+
     public void verifyToken(String token);
 
     public void signOut(String token);
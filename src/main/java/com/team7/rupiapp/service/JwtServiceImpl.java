@@ -1,9 +1,12 @@
 package com.team7.rupiapp.service;
 
 import java.security.Key;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.UUID;
 import java.util.function.Function;
 
@@ -13,19 +16,48 @@ import org.springframework.stereotype.Service;
 
 import com.team7.rupiapp.model.Token;
 import com.team7.rupiapp.repository.TokenRepository;
+import com.team7.rupiapp.util.ExpiringCache;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 
 @Service
 public class JwtServiceImpl implements JwtService {
     private TokenRepository tokenRepository;
+    private final ExpiringCache<UUID, TokenState> tokenStateCache;
+
+    /*
+     * State of an access token id as stored in the tokens table. Token ids are
+     * never reused, so a token that is ABSENT stays absent.
+     */
+    private enum TokenState {
+        ABSENT,
+        DISABLED,
+        ENABLED
+    }
 
-    public JwtServiceImpl(TokenRepository tokenRepository) {
+    public JwtServiceImpl(TokenRepository tokenRepository, MeterRegistry meterRegistry,
+            @Value("${app.token-cache.max-size:100000}") int tokenCacheMaxSize) {
         this.tokenRepository = tokenRepository;
+        this.tokenStateCache = new ExpiringCache<>(tokenCacheMaxSize);
+
+        FunctionCounter.builder("cache.gets", tokenStateCache, ExpiringCache::hitCount)
+                .tags("cache", "tokens", "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", tokenStateCache, ExpiringCache::missCount)
+                .tags("cache", "tokens", "result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", tokenStateCache, ExpiringCache::size)
+                .tags("cache", "tokens")
+                .register(meterRegistry);
     }
 
     @Value("${spring.security.jwt.secret-key}")
@@ -40,6 +72,25 @@ public class JwtServiceImpl implements JwtService {
     @Value("${spring.security.jwt.refresh-token.expiration-time}")
     private long jwtRefreshExpiration;
 
+    @Value("${app.token-cache.ttl:300000}")
+    private long tokenCacheTtl;
+
+    private Key accessTokenKey;
+    private Key refreshTokenKey;
+    private JwtParser accessTokenParser;
+    private JwtParser refreshTokenParser;
+
+    /*
+     * Decoding the secrets and building the parsers is done once; both Key and
+     * JwtParser are immutable and thread-safe.
+     */
+    @PostConstruct
+    void initSigningKeys() {
+        accessTokenKey = getSignInKey(accessTokenSecretKey);
+        refreshTokenKey = getSignInKey(refreshTokenSecretKey);
+        accessTokenParser = Jwts.parserBuilder().setSigningKey(accessTokenKey).build();
+        refreshTokenParser = Jwts.parserBuilder().setSigningKey(refreshTokenKey).build();
+    }
 
     @Override
     public String[] generateToken(UserDetails userDetails) {
@@ -50,86 +101,118 @@ public class JwtServiceImpl implements JwtService {
     public String generateToken(UserDetails userDetails, String refreshToken) {
         UUID tokenId = UUID.randomUUID();
         Token token = tokenRepository.findByRefreshTokenId(extractRefreshTokenId(refreshToken));
+        UUID previousTokenId = token.getTokenId();
 
         token.setTokenId(tokenId);
         tokenRepository.save(token);
+        tokenStateCache.invalidate(previousTokenId);
 
-        return createToken(new HashMap<>(), tokenId, userDetails, jwtExpiration, accessTokenSecretKey);
+        return createToken(new HashMap<>(), tokenId, userDetails, jwtExpiration, accessTokenKey);
     }
 
     private String[] generateToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
-        Token token = tokenRepository.save(new Token());
+        Token token = new Token();
+        token.setExpiresAt(LocalDateTime.now().plus(Duration.ofMillis(jwtRefreshExpiration)));
+        token = tokenRepository.save(token);
         UUID tokenId = token.getTokenId();
         UUID refreshTokenId = token.getRefreshTokenId();
 
-        String accessToken = createToken(extraClaims, tokenId, userDetails, expiration, accessTokenSecretKey);
+        String accessToken = createToken(extraClaims, tokenId, userDetails, expiration, accessTokenKey);
         String refreshToken = createToken(extraClaims, refreshTokenId, userDetails, jwtRefreshExpiration,
-                refreshTokenSecretKey);
+                refreshTokenKey);
 
         return new String[] { accessToken, refreshToken };
     }
 
     private String createToken(Map<String, Object> claims, UUID tokenId, UserDetails userDetails, long expiration,
-            String secretKey) {
+            Key signingKey) {
         return Jwts.builder()
                 .setClaims(claims)
                 .setId(tokenId.toString())
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(secretKey), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    @Override
+    public Claims parseToken(String token) {
+        return accessTokenParser.parseClaimsJws(token).getBody();
+    }
+
     @Override
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        return isTokenValid(token, userDetails, true);
+        return isTokenValid(parseToken(token), userDetails);
+    }
+
+    @Override
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return isTokenValid(claims, userDetails, true);
     }
 
     @Override
     public boolean isRefreshTokenValid(String token, UserDetails userDetails) {
-        return isTokenValid(token, userDetails, false);
+        return isTokenValid(refreshTokenParser.parseClaimsJws(token).getBody(), userDetails, false);
     }
 
-    private boolean isTokenValid(String token, UserDetails userDetails, boolean isAccessToken) {
-        String secretKey = isAccessToken ? accessTokenSecretKey : refreshTokenSecretKey;
-        boolean exists = isAccessToken
-                ? tokenRepository.existsByTokenId(UUID.fromString(extractClaim(token, Claims::getId, secretKey)))
-                : tokenRepository
-                        .existsByRefreshTokenId(UUID.fromString(extractClaim(token, Claims::getId, secretKey)));
+    private boolean isTokenValid(Claims claims, UserDetails userDetails, boolean isAccessToken) {
+        if (!claims.getSubject().equals(userDetails.getUsername()) || isTokenExpired(claims)) {
+            return false;
+        }
+
+        if (isAccessToken) {
+            return getTokenState(claims) != TokenState.ABSENT;
+        }
 
-        final String username = extractClaim(token, Claims::getSubject, secretKey);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token, secretKey) && exists;
+        return tokenRepository.existsByRefreshTokenId(UUID.fromString(claims.getId()));
     }
 
-    private boolean isTokenExpired(String token, String secretKey) {
-        return extractClaim(token, Claims::getExpiration, secretKey).before(new Date());
+    /*
+     * Looks up the state of an access token in the local cache first. Entries
+     * live until the JWT expires, capped by app.token-cache.ttl so other
+     * instances pick up a sign-out within that window.
+     */
+    private TokenState getTokenState(Claims claims) {
+        UUID tokenId = UUID.fromString(claims.getId());
+        TokenState state = tokenStateCache.get(tokenId);
+
+        if (state == null) {
+            state = tokenRepository.findByTokenId(tokenId)
+                    .map(token -> token.isEnabled() ? TokenState.ENABLED : TokenState.DISABLED)
+                    .orElse(TokenState.ABSENT);
+
+            long expiresAt = Math.min(claims.getExpiration().getTime(), System.currentTimeMillis() + tokenCacheTtl);
+            tokenStateCache.put(tokenId, state, expiresAt);
+        }
+
+        return state;
+    }
+
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     private UUID extractTokenId(String token) {
-        return UUID.fromString(extractClaim(token, Claims::getId, accessTokenSecretKey));
+        return UUID.fromString(extractClaim(token, Claims::getId, accessTokenParser));
     }
 
     private UUID extractRefreshTokenId(String token) {
-        return UUID.fromString(extractClaim(token, Claims::getId, refreshTokenSecretKey));
+        return UUID.fromString(extractClaim(token, Claims::getId, refreshTokenParser));
     }
 
     @Override
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject, accessTokenSecretKey);
+        return extractClaim(token, Claims::getSubject, accessTokenParser);
     }
 
     @Override
     public String extractRefreshUsername(String token) {
-        return extractClaim(token, Claims::getSubject, refreshTokenSecretKey);
+        return extractClaim(token, Claims::getSubject, refreshTokenParser);
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver, String secretKey) {
-        final Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSignInKey(secretKey))
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver, JwtParser parser) {
+        final Claims claims = parser.parseClaimsJws(token).getBody();
         return claimsResolver.apply(claims);
     }
 
@@ -140,10 +223,18 @@ public class JwtServiceImpl implements JwtService {
 
     @Override
     public boolean isTokenEnabled(String token) {
-        UUID tokenId = extractTokenId(token);
-        Token tokenEntity = tokenRepository.findByTokenId(tokenId).orElseThrow();
+        return isTokenEnabled(parseToken(token));
+    }
+
+    @Override
+    public boolean isTokenEnabled(Claims claims) {
+        TokenState state = getTokenState(claims);
+
+        if (state == TokenState.ABSENT) {
+            throw new NoSuchElementException("No value present");
+        }
 
-        return tokenEntity.isEnabled();
+        return state == TokenState.ENABLED;
     }
 
     @Override
@@ -153,6 +244,7 @@ public class JwtServiceImpl implements JwtService {
 
         tokenEntity.setEnabled(true);
         tokenRepository.save(tokenEntity);
+        tokenStateCache.invalidate(tokenId);
     }
 
     @Override
@@ -162,10 +254,11 @@ public class JwtServiceImpl implements JwtService {
 
     private void markTokenAsCanNotBeUsed(String token, boolean isAccessToken) {
         UUID tokenId = UUID.fromString(
-                extractClaim(token, Claims::getId, isAccessToken ? accessTokenSecretKey : refreshTokenSecretKey));
+                extractClaim(token, Claims::getId, isAccessToken ? accessTokenParser : refreshTokenParser));
 
         if (isAccessToken) {
             tokenRepository.deleteByTokenId(tokenId);
+            tokenStateCache.invalidate(tokenId);
         } else {
             tokenRepository.deleteByRefreshTokenId(tokenId);
         }
@@ -0,0 +1,11 @@
+package com.team7.rupiapp.service;
+
+import com.team7.rupiapp.model.Mutation;
+
+public interface MutationRollupService {
+    void record(Mutation mutation);
+
+    void rebuildLastClosedMonth();
+
+    void backfill();
+}
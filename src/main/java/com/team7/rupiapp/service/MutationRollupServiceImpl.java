@@ -0,0 +1,112 @@
+package com.team7.rupiapp.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.team7.rupiapp.model.Mutation;
+import com.team7.rupiapp.repository.MutationRepository;
+import com.team7.rupiapp.repository.MutationRollupRepository;
+import com.team7.rupiapp.util.AdvisoryLock;
+
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class MutationRollupServiceImpl implements MutationRollupService {
+    // Advisory lock id, only has to be unique among the locks this database uses
+    private static final long LOCK_KEY = 4_206_301_723L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MutationRepository mutationRepository;
+    private final MutationRollupRepository mutationRollupRepository;
+
+    @Value("${app.mutation-rollup.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    public MutationRollupServiceImpl(JdbcTemplate jdbcTemplate, MutationRepository mutationRepository,
+            MutationRollupRepository mutationRollupRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mutationRepository = mutationRepository;
+        this.mutationRollupRepository = mutationRollupRepository;
+    }
+
+    @Override
+    @Transactional
+    public void record(Mutation mutation) {
+        LocalDateTime createdAt = mutation.getCreatedAt();
+
+        mutationRollupRepository.increment(
+                mutation.getUser().getId(),
+                createdAt.getYear(),
+                createdAt.getMonthValue(),
+                mutation.getTransactionType().name(),
+                mutation.getMutationType().name(),
+                mutation.getAmount().getMinorUnits());
+    }
+
+    /*
+     * Monthly reconciliation: recomputes only the month that just ended. Closed
+     * months never change afterwards, so older rollups are left alone.
+     */
+    @Override
+    @Scheduled(cron = "${app.mutation-rollup.backfill-cron:0 5 0 1 * *}")
+    public void rebuildLastClosedMonth() {
+        LocalDateTime startOfCurrentMonth = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+        LocalDateTime startOfLastMonth = startOfCurrentMonth.minusMonths(1);
+
+        boolean ran = AdvisoryLock.tryRun(jdbcTemplate, LOCK_KEY, () -> rebuild(startOfLastMonth, startOfCurrentMonth));
+        if (!ran) {
+            log.debug("mutation rollup rebuild skipped, another instance holds the lock");
+        }
+    }
+
+    /*
+     * One-time fill of the closed months for mutations that existed before the
+     * rollups did. Once any closed-month rollup exists this is a single EXISTS
+     * query. Each month is rebuilt in its own transaction so the fill never
+     * holds one long transaction over the whole history.
+     */
+    @Override
+    public void backfill() {
+        LocalDate startOfCurrentMonth = LocalDate.now().withDayOfMonth(1);
+
+        boolean ran = AdvisoryLock.tryRun(jdbcTemplate, LOCK_KEY, () -> {
+            if (mutationRollupRepository.existsBeforePeriod(startOfCurrentMonth.getYear(),
+                    startOfCurrentMonth.getMonthValue())) {
+                return;
+            }
+
+            mutationRepository.findEarliestCreatedAt().ifPresent(earliest -> {
+                LocalDateTime from = earliest.toLocalDate().withDayOfMonth(1).atStartOfDay();
+                while (from.isBefore(startOfCurrentMonth.atStartOfDay())) {
+                    rebuild(from, from.plusMonths(1));
+                    from = from.plusMonths(1);
+                }
+            });
+        });
+
+        if (!ran) {
+            log.debug("mutation rollup backfill skipped, another instance holds the lock");
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (backfillOnStartup) {
+            backfill();
+        }
+    }
+
+    private void rebuild(LocalDateTime from, LocalDateTime before) {
+        int rows = mutationRollupRepository.rebuildBetween(from, before);
+        log.info("mutation rollups rebuilt for {}: {} rows", from.toLocalDate(), rows);
+    }
+}
@@ -7,6 +7,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.mail.javamail.JavaMailSender;
@@ -18,20 +19,36 @@ import org.thymeleaf.context.Context;
 
 import com.team7.rupiapp.client.WhatsappClient;
 import com.team7.rupiapp.client.data.SendWhatsappMessageData;
+import com.team7.rupiapp.config.NotificationExecutor;
+import com.team7.rupiapp.config.NotificationExecutorConfiguration;
 import com.team7.rupiapp.exception.BadRequestException;
 
 import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.extern.slf4j.Slf4j;
 
+/*
+ * Every notification runs on its channel's executor (see
+ * NotificationExecutorConfiguration) and its delivery time is recorded as
+ * app.notifications.send, tagged with the channel and whether it succeeded.
+ * OTPs and username recovery are submitted with executeOrReject, so a full
+ * queue turns into a 503 for the caller instead of a silently lost message.
+ */
 @Slf4j
-@Async
 @Service
 public class NotifierServiceImpl implements NotifierService {
+    private static final String EMAIL = "email";
+    private static final String WHATSAPP = "whatsapp";
+
     private final JavaMailSender javaMailSender;
     private final TemplateEngine templateEngine;
     private final WhatsappClient whatsappClient;
+    private final MeterRegistry meterRegistry;
+    private final NotificationExecutor emailExecutor;
+    private final NotificationExecutor whatsappExecutor;
 
     private String pathLogo = "images/RupiApp.png";
 
@@ -39,10 +56,15 @@ public class NotifierServiceImpl implements NotifierService {
     private String waApiKey;
 
     public NotifierServiceImpl(JavaMailSender javaMailSender, TemplateEngine templateEngine,
-            WhatsappClient whatsappClient) {
+            WhatsappClient whatsappClient, MeterRegistry meterRegistry,
+            @Qualifier(NotificationExecutorConfiguration.EMAIL_EXECUTOR) NotificationExecutor emailExecutor,
+            @Qualifier(NotificationExecutorConfiguration.WHATSAPP_EXECUTOR) NotificationExecutor whatsappExecutor) {
         this.javaMailSender = javaMailSender;
         this.templateEngine = templateEngine;
         this.whatsappClient = whatsappClient;
+        this.meterRegistry = meterRegistry;
+        this.emailExecutor = emailExecutor;
+        this.whatsappExecutor = whatsappExecutor;
     }
 
     private String getFormattedDate() {
@@ -51,12 +73,17 @@ public class NotifierServiceImpl implements NotifierService {
     }
 
     @Override
+    @Async(NotificationExecutorConfiguration.EMAIL_EXECUTOR)
     public void sendEmail(String to, String subject, String message) {
         sendEmail(to, subject, message, null);
     }
 
     @Override
+    @Async(NotificationExecutorConfiguration.EMAIL_EXECUTOR)
     public void sendEmail(String to, String subject, String message, Map<String, File> imageFiles) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean sent = false;
+
         try {
             MimeMessage mimeMessage = javaMailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true);
@@ -75,22 +102,38 @@ public class NotifierServiceImpl implements NotifierService {
             }
 
             javaMailSender.send(mimeMessage);
+            sent = true;
         } catch (MessagingException e) {
             log.error("Error sending email", e);
+        } finally {
+            sample.stop(sendTimer(EMAIL, sent));
         }
     }
 
     private void sendWhatsappMessage(SendWhatsappMessageData data) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean sent = false;
+
         try {
             whatsappClient.sendMessage(data);
+            sent = true;
         } catch (FeignException e) {
             if (e.status() == HttpStatus.BAD_REQUEST.value()) {
                 throw new BadRequestException("Number is not valid");
             }
             log.error("Error sending whatsapp message", e);
+        } finally {
+            sample.stop(sendTimer(WHATSAPP, sent));
         }
     }
 
+    private Timer sendTimer(String channel, boolean sent) {
+        return Timer.builder("app.notifications.send")
+                .tags("channel", channel, "outcome", sent ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     private SendWhatsappMessageData createWhatsappData(String to, String message) {
         SendWhatsappMessageData data = new SendWhatsappMessageData();
         data.setAuthkey(waApiKey);
@@ -100,6 +143,7 @@ public class NotifierServiceImpl implements NotifierService {
     }
 
     @Override
+    @Async(NotificationExecutorConfiguration.WHATSAPP_EXECUTOR)
     public void sendWhatsapp(String to, String message) {
         SendWhatsappMessageData data = createWhatsappData(to, message);
         sendWhatsappMessage(data);
@@ -109,7 +153,7 @@ public class NotifierServiceImpl implements NotifierService {
     public void sendVerification(String to, String otp) {
         String message = "*" + otp
                 + "* adalah kode verifikasi Anda. Demi keamanan, jangan bagikan kode ini kepada siapapun.";
-        sendWhatsappMessage(createWhatsappData(to, message));
+        whatsappExecutor.executeOrReject(() -> sendWhatsappMessage(createWhatsappData(to, message)));
     }
 
     @Override
@@ -117,37 +161,41 @@ public class NotifierServiceImpl implements NotifierService {
         String message = "*" + otp + "* adalah kode verifikasi untuk mengganti password Anda. "
                 + "Demi keamanan, jangan bagikan kode ini kepada siapapun. "
                 + "Jika Anda tidak meminta kode ini, abaikan saja pesan ini.";
-        sendWhatsappMessage(createWhatsappData(to, message));
+        whatsappExecutor.executeOrReject(() -> sendWhatsappMessage(createWhatsappData(to, message)));
     }
 
     @Override
     public void sendVerificationLogin(String to, String otp) {
         String message = "*" + otp
                 + "* adalah kode verifikasi login Anda. Demi keamanan, jangan bagikan kode ini kepada siapapun.";
-        sendWhatsappMessage(createWhatsappData(to, message));
+        whatsappExecutor.executeOrReject(() -> sendWhatsappMessage(createWhatsappData(to, message)));
     }
 
     @Override
     public void sendVerificationEmail(String to, String name, String otp) {
-        Context context = new Context();
-        context.setVariable("name", name);
-        context.setVariable("otp", otp);
-        context.setVariable("message", "Berikut adalah kode verifikasi Anda");
+        emailExecutor.executeOrReject(() -> {
+            Context context = new Context();
+            context.setVariable("name", name);
+            context.setVariable("otp", otp);
+            context.setVariable("message", "Berikut adalah kode verifikasi Anda");
 
-        String subject = "Email Verification";
-        String body = templateEngine.process("verificationEmail", context);
+            String subject = "Email Verification";
+            String body = templateEngine.process("verificationEmail", context);
 
-        Map<String, File> imageFiles = Map.of("logo", new File(pathLogo));
+            Map<String, File> imageFiles = Map.of("logo", new File(pathLogo));
 
-        sendEmail(to, subject, body, imageFiles);
+            sendEmail(to, subject, body, imageFiles);
+        });
     }
 
     @Override
+    @Async(NotificationExecutorConfiguration.EMAIL_EXECUTOR)
     public void sendAlertEmail(String to, String name, String subject, String message) {
         sendAlertEmail(to, name, subject, message, Map.of());
     }
 
     @Override
+    @Async(NotificationExecutorConfiguration.EMAIL_EXECUTOR)
     public void sendAlertEmail(String to, String name, String subject, String message, Map<String, String> details) {
         message = message.replace("{time}", getFormattedDate());
 
@@ -177,22 +225,24 @@ public class NotifierServiceImpl implements NotifierService {
 
     @Override
     public void sendUsernameByEmail(String to, String name, String username) {
-        Context context = new Context();
-        context.setVariable("name", name);
-        context.setVariable("username", username);
-        context.setVariable("message", "Berikut adalah username Anda");
+        emailExecutor.executeOrReject(() -> {
+            Context context = new Context();
+            context.setVariable("name", name);
+            context.setVariable("username", username);
+            context.setVariable("message", "Berikut adalah username Anda");
 
-        String subject = "Username Recovery";
-        String body = templateEngine.process("usernameEmail", context);
+            String subject = "Username Recovery";
+            String body = templateEngine.process("usernameEmail", context);
 
-        Map<String, File> imageFiles = Map.of("logo", new File(pathLogo));
+            Map<String, File> imageFiles = Map.of("logo", new File(pathLogo));
 
-        sendEmail(to, subject, body, imageFiles);
+            sendEmail(to, subject, body, imageFiles);
+        });
     }
 
     @Override
     public void sendUsernameByPhone(String to, String username) {
         String message = "*[Username Recovery]*\n\nBerikut adalah username Anda: *" + username + "*";
-        sendWhatsappMessage(createWhatsappData(to, message));
+        whatsappExecutor.executeOrReject(() -> sendWhatsappMessage(createWhatsappData(to, message)));
     }
 }
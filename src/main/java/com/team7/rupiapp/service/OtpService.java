@@ -0,0 +1,9 @@
+package com.team7.rupiapp.service;
+
+import com.team7.rupiapp.model.Otp;
+
+public interface OtpService {
+    String hash(String code);
+
+    void verify(Otp otp, String code);
+}
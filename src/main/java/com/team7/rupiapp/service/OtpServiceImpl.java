@@ -0,0 +1,115 @@
+package com.team7.rupiapp.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.team7.rupiapp.exception.BadRequestException;
+import com.team7.rupiapp.model.Otp;
+import com.team7.rupiapp.repository.OtpRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/*
+ * OTP codes live for minutes and have a few digits, so a slow password hash
+ * adds nothing over the attempt limit and costs a BCrypt round on every issue
+ * and every check. Codes are stored as "hmac$<salt>$<mac>": HMAC-SHA256 over
+ * a random per-OTP salt and the code, keyed with a server side pepper that
+ * never touches the database. Guessing is limited by app.otp.max-attempts
+ * per OTP; the attempt is counted before the code is compared.
+ */
+@Service
+public class OtpServiceImpl implements OtpService {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String PREFIX = "hmac$";
+    private static final int SALT_LENGTH = 16;
+
+    private final OtpRepository otpRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final SecureRandom random = new SecureRandom();
+
+    private SecretKeySpec pepper;
+
+    @Value("${app.otp.pepper}")
+    private String pepperValue;
+
+    @Value("${app.otp.max-attempts:5}")
+    private int maxAttempts;
+
+    public OtpServiceImpl(OtpRepository otpRepository, PasswordEncoder passwordEncoder) {
+        this.otpRepository = otpRepository;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @PostConstruct
+    private void init() {
+        if (pepperValue == null || pepperValue.isBlank()) {
+            throw new IllegalStateException("app.otp.pepper must be set");
+        }
+
+        this.pepper = new SecretKeySpec(pepperValue.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    @Override
+    public String hash(String code) {
+        byte[] salt = new byte[SALT_LENGTH];
+        random.nextBytes(salt);
+
+        Base64.Encoder encoder = Base64.getEncoder();
+        return PREFIX + encoder.encodeToString(salt) + "$" + encoder.encodeToString(mac(salt, code));
+    }
+
+    @Override
+    public void verify(Otp otp, String code) {
+        if (otpRepository.incrementAttempts(otp.getId(), maxAttempts) == 0) {
+            throw new BadRequestException("Too many invalid OTP attempts, please request a new OTP");
+        }
+
+        if (code == null || !matches(code, otp.getCode())) {
+            throw new BadRequestException("Invalid OTP");
+        }
+    }
+
+    private boolean matches(String code, String stored) {
+        if (!stored.startsWith(PREFIX)) {
+            // BCrypt codes issued before the switch, gone once they expire
+            return passwordEncoder.matches(code, stored);
+        }
+
+        int separator = stored.indexOf('$', PREFIX.length());
+        if (separator < 0) {
+            return false;
+        }
+
+        try {
+            Base64.Decoder decoder = Base64.getDecoder();
+            byte[] salt = decoder.decode(stored.substring(PREFIX.length(), separator));
+            byte[] expected = decoder.decode(stored.substring(separator + 1));
+
+            return MessageDigest.isEqual(expected, mac(salt, code));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private byte[] mac(byte[] salt, String code) {
+        try {
+            Mac hmac = Mac.getInstance(ALGORITHM);
+            hmac.init(pepper);
+            hmac.update(salt);
+            return hmac.doFinal(code.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("Error hashing OTP", e);
+        }
+    }
+}
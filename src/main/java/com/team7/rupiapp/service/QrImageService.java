@@ -0,0 +1,9 @@
+package com.team7.rupiapp.service;
+
+import java.awt.image.BufferedImage;
+
+public interface QrImageService {
+    String renderPng(String qrContent, int width, int height, BufferedImage logo);
+
+    String renderCachedPng(String qrContent, int width, int height, BufferedImage logo);
+}
@@ -0,0 +1,92 @@
+package com.team7.rupiapp.service;
+
+import java.awt.image.BufferedImage;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.team7.rupiapp.util.Base64Util;
+import com.team7.rupiapp.util.ExpiringCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/*
+ * Base64 PNG rendering of QR codes. Codes whose payload repeats (static MPM)
+ * go through renderCachedPng, which keeps the finished base64 string keyed by
+ * the SHA-256 of the payload, the size and the logo, so a repeated request
+ * skips encoding, rasterizing and PNG compression.
+ *
+ * The cache is bounded by the characters it holds (one byte each, base64 is
+ * Latin-1) plus a fixed allowance per entry for the key and map node, not by
+ * entry count: a 300x300 code is under 1 KB as base64 without the logo but
+ * tens of KB with it.
+ */
+@Service
+public class QrImageServiceImpl implements QrImageService {
+    // Key record, its 64 character hash and the map node
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private final GenerateService generateService;
+    private final ExpiringCache<Key, String> cache;
+
+    public QrImageServiceImpl(GenerateService generateService, MeterRegistry meterRegistry,
+            @Value("${app.qr.render-cache.max-bytes:16777216}") long maxBytes) {
+        this.generateService = generateService;
+        this.cache = new ExpiringCache<>(maxBytes, image -> image.length() + ENTRY_OVERHEAD);
+
+        FunctionCounter.builder("cache.gets", cache, ExpiringCache::hitCount)
+                .tags("cache", "qr-images", "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cache, ExpiringCache::missCount)
+                .tags("cache", "qr-images", "result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", cache, ExpiringCache::size)
+                .tags("cache", "qr-images")
+                .register(meterRegistry);
+        Gauge.builder("cache.weight", cache, ExpiringCache::weight)
+                .tags("cache", "qr-images")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String renderPng(String qrContent, int width, int height, BufferedImage logo) {
+        return Base64Util.convertImage(generateService.generateQRCodeImage(qrContent, width, height, logo));
+    }
+
+    @Override
+    public String renderCachedPng(String qrContent, int width, int height, BufferedImage logo) {
+        Key key = new Key(sha256(qrContent), width, height, logo);
+
+        String image = cache.get(key);
+        if (image == null) {
+            image = renderPng(qrContent, width, height, logo);
+            cache.put(key, image);
+        }
+
+        return image;
+    }
+
+    private static String sha256(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /*
+     * The logo is compared by identity: QrLogoService hands out the same
+     * scaled instance until it is reloaded, so a reload starts new entries and
+     * the old ones age out.
+     */
+    private record Key(String payloadHash, int width, int height, BufferedImage logo) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.team7.rupiapp.service;
+
+import java.awt.image.BufferedImage;
+
+public interface QrLogoService {
+    BufferedImage getLogo(int qrWidth, int qrHeight);
+
+    void reload();
+}
@@ -0,0 +1,87 @@
+package com.team7.rupiapp.service;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.ImageIO;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.team7.rupiapp.exception.BadRequestException;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Keeps the logo drawn in the middle of QR codes in memory, already scaled to
+ * the size GenerateService draws it at for each QR size, instead of decoding
+ * the PNG from disk on every request. The source image and its scaled copies
+ * are swapped together on reload, so a request that overlaps a reload can
+ * never cache a copy of the old logo in the new set.
+ */
+@Slf4j
+@Service
+public class QrLogoServiceImpl implements QrLogoService {
+    @Value("${app.qr.logo-path:images/RupiApp.png}")
+    private String logoPath;
+
+    private volatile Logo logo = new Logo(null);
+
+    @PostConstruct
+    private void init() {
+        reload();
+    }
+
+    @Override
+    public BufferedImage getLogo(int qrWidth, int qrHeight) {
+        Logo current = logo;
+        if (current.source() == null) {
+            throw new BadRequestException("Invalid logo path");
+        }
+
+        return current.scaled().computeIfAbsent(((long) qrWidth << 32) | qrHeight,
+                key -> scale(current.source(), qrWidth, qrHeight));
+    }
+
+    @Override
+    public void reload() {
+        BufferedImage loaded = null;
+
+        try {
+            loaded = ImageIO.read(new File(logoPath));
+            if (loaded == null) {
+                log.error("Unsupported QR logo image: {}", logoPath);
+            }
+        } catch (Exception e) {
+            log.error("Failed to load QR logo from {}", logoPath, e);
+        }
+
+        logo = new Logo(loaded);
+    }
+
+    private record Logo(BufferedImage source, Map<Long, BufferedImage> scaled) {
+        private Logo(BufferedImage source) {
+            this(source, new ConcurrentHashMap<>());
+        }
+    }
+
+    /*
+     * Same size rule as GenerateService: at most a fifth of the QR code, never
+     * upscaled.
+     */
+    private static BufferedImage scale(BufferedImage source, int qrWidth, int qrHeight) {
+        int logoWidth = Math.max(1, Math.min(source.getWidth(), qrWidth / 5));
+        int logoHeight = Math.max(1, Math.min(source.getHeight(), qrHeight / 5));
+
+        BufferedImage scaled = new BufferedImage(logoWidth, logoHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        g.drawImage(source, 0, 0, logoWidth, logoHeight, null);
+        g.dispose();
+
+        return scaled;
+    }
+}
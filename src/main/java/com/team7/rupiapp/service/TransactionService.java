@@ -12,6 +12,7 @@ import com.team7.rupiapp.dto.transfer.qris.QrisResponseDto;
 import com.team7.rupiapp.dto.transfer.qris.QrisTransferResponseDto;
 import com.team7.rupiapp.dto.transfer.transfer.TransferRequestDto;
 import com.team7.rupiapp.dto.transfer.transfer.TransferResponseDto;
+import com.team7.rupiapp.enums.QrisFormat;
 
 import java.security.Principal;
 import java.util.UUID;
@@ -33,8 +34,8 @@ public interface TransactionService {
 
     public QrisTransferResponseDto createTransactionQris(Principal principal, QrisDto qrisDto);
 
-    public QrisGenerateResponseDto createQris(Principal principal, QrisGenerateMPMDto qrisMPMDto);
+    public QrisGenerateResponseDto createQris(Principal principal, QrisGenerateMPMDto qrisMPMDto, QrisFormat format);
 
-    public QrisGenerateResponseDto createQrisCPM(Principal principal, QrisGenerateCPMDto qrisCPMDto);
+    public QrisGenerateResponseDto createQrisCPM(Principal principal, QrisGenerateCPMDto qrisCPMDto, QrisFormat format);
 }
 
@@ -1,24 +1,22 @@
 package com.team7.rupiapp.service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
 import java.time.LocalDateTime;
 import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
-import javax.imageio.ImageIO;
-
 import java.awt.image.BufferedImage;
-import java.io.File;
 
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.team7.rupiapp.config.TransactionRetryTemplate;
 import com.team7.rupiapp.dto.transfer.destination.DestinationAddDto;
 import com.team7.rupiapp.dto.transfer.destination.DestinationDetailDto;
 import com.team7.rupiapp.dto.transfer.destination.DestinationDto;
@@ -32,12 +30,14 @@ import com.team7.rupiapp.dto.transfer.qris.QrisTransferResponseDto;
 import com.team7.rupiapp.dto.transfer.transfer.TransferRequestDto;
 import com.team7.rupiapp.dto.transfer.transfer.TransferResponseDto;
 import com.team7.rupiapp.enums.MutationType;
+import com.team7.rupiapp.enums.QrisFormat;
 import com.team7.rupiapp.enums.QrisType;
 import com.team7.rupiapp.enums.TransactionPurpose;
 import com.team7.rupiapp.enums.TransactionType;
 import com.team7.rupiapp.exception.BadRequestException;
 import com.team7.rupiapp.exception.DataNotFoundException;
 import com.team7.rupiapp.model.Destination;
+import com.team7.rupiapp.model.Money;
 import com.team7.rupiapp.model.Mutation;
 import com.team7.rupiapp.model.Qris;
 import com.team7.rupiapp.model.User;
@@ -45,9 +45,8 @@ import com.team7.rupiapp.repository.DestinationRepository;
 import com.team7.rupiapp.repository.MutationRepository;
 import com.team7.rupiapp.repository.QrisRepository;
 import com.team7.rupiapp.repository.UserRepository;
-import com.team7.rupiapp.util.Base64Util;
+import com.team7.rupiapp.util.QrisPayload;
 
-import jakarta.transaction.Transactional;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -61,20 +60,39 @@ public class TransactionServiceImpl implements TransactionService {
     private final QrisRepository qrisRepository;
     private final MutationRepository mutationRepository;
     private final DestinationRepository destinationRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final CredentialVerificationService credentialVerificationService;
     private final ModelMapper modelMapper;
     private final GenerateService generateService;
+    private final MutationRollupService mutationRollupService;
+    private final CurrentUserService currentUserService;
+    private final BalanceService balanceService;
+    private final TransactionRetryTemplate transactionRetryTemplate;
+    private final QrLogoService qrLogoService;
+    private final QrImageService qrImageService;
+
+    @Value("${app.qr.stable-static:false}")
+    private boolean stableStaticQris;
 
     public TransactionServiceImpl(UserRepository userRepository, QrisRepository qrisRepository,
             MutationRepository mutationRepository, DestinationRepository destinationRepository,
-            PasswordEncoder passwordEncoder, ModelMapper modelMapper, GenerateService generateService) {
+            CredentialVerificationService credentialVerificationService, ModelMapper modelMapper,
+            GenerateService generateService, MutationRollupService mutationRollupService,
+            CurrentUserService currentUserService, BalanceService balanceService,
+            TransactionRetryTemplate transactionRetryTemplate, QrLogoService qrLogoService,
+            QrImageService qrImageService) {
         this.userRepository = userRepository;
         this.qrisRepository = qrisRepository;
         this.mutationRepository = mutationRepository;
         this.destinationRepository = destinationRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.credentialVerificationService = credentialVerificationService;
         this.modelMapper = modelMapper;
         this.generateService = generateService;
+        this.mutationRollupService = mutationRollupService;
+        this.currentUserService = currentUserService;
+        this.balanceService = balanceService;
+        this.transactionRetryTemplate = transactionRetryTemplate;
+        this.qrLogoService = qrLogoService;
+        this.qrImageService = qrImageService;
     }
 
     @Getter
@@ -84,24 +102,35 @@ public class TransactionServiceImpl implements TransactionService {
         private User receiver;
         private String fullName;
         private String accountNumber;
-        private Map<String, String> qrisMap;
-        private double amount;
+        private QrisPayload qrisPayload;
+        private Money amount;
         private String description;
         private Qris qris;
         private QrisDto qrisDto;
         private MutationType mutationType;
     }
 
+    /*
+     * The PIN is checked before the retry template starts its transaction, so
+     * waiting for the BCrypt pool never keeps a transaction open and a lock
+     * conflict retry doesn't hash the PIN again.
+     */
     @Override
-    @Transactional
     public TransferResponseDto createTransaction(TransferRequestDto requestDto, Principal principal) {
-        User sender = userRepository.findByUsername(principal.getName())
+        User sender = currentUserService.find(principal)
                 .orElseThrow(() -> new DataNotFoundException("User not found"));
 
-        if (!passwordEncoder.matches(requestDto.getPin(), sender.getPin())) {
+        if (!credentialVerificationService.matches(requestDto.getPin(), sender.getPin())) {
             throw new BadRequestException("Invalid PIN");
         }
 
+        return transactionRetryTemplate.execute(() -> transfer(requestDto, principal));
+    }
+
+    private TransferResponseDto transfer(TransferRequestDto requestDto, Principal principal) {
+        User sender = currentUserService.find(principal)
+                .orElseThrow(() -> new DataNotFoundException("User not found"));
+
         Destination destination = destinationRepository.findById(requestDto.getDestinationId())
                 .orElseThrow(() -> new DataNotFoundException("Destination not found"));
 
@@ -113,15 +142,7 @@ public class TransactionServiceImpl implements TransactionService {
                 .orElseThrow(() -> new DataNotFoundException(
                         "Receiver not found with account number: " + destination.getAccountNumber()));
 
-        if (sender.getBalance() < requestDto.getAmount()) {
-            throw new BadRequestException("Insufficient balance");
-        }
-
-        sender.setBalance(sender.getBalance() - requestDto.getAmount());
-        receiver.setBalance(receiver.getBalance() + requestDto.getAmount());
-
-        userRepository.save(sender);
-        userRepository.save(receiver);
+        balanceService.transfer(sender, receiver, requestDto.getAmount());
 
         Mutation senderMutation = modelMapper.map(requestDto, Mutation.class);
         senderMutation.setUser(sender);
@@ -132,6 +153,7 @@ public class TransactionServiceImpl implements TransactionService {
         senderMutation.setTransactionType(TransactionType.DEBIT);
 
         Mutation savedSenderMutation = mutationRepository.save(senderMutation);
+        mutationRollupService.record(savedSenderMutation);
 
         Mutation receiverMutation = modelMapper.map(requestDto, Mutation.class);
         receiverMutation.setUser(receiver);
@@ -141,6 +163,7 @@ public class TransactionServiceImpl implements TransactionService {
         receiverMutation.setFullName(sender.getFullName());
         receiverMutation.setTransactionType(TransactionType.CREDIT);
         mutationRepository.save(receiverMutation);
+        mutationRollupService.record(receiverMutation);
 
         TransferResponseDto responseDto = new TransferResponseDto();
         responseDto.setDescription(requestDto.getDescription());
@@ -167,7 +190,7 @@ public class TransactionServiceImpl implements TransactionService {
 
     @Override
     public Page<DestinationDto> getDestination(Principal principal, String search, int page, int size) {
-        User user = userRepository.findByUsername(principal.getName())
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new DataNotFoundException("User not found"));
 
         Pageable pageable = PageRequest.of(page, size);
@@ -209,7 +232,7 @@ public class TransactionServiceImpl implements TransactionService {
         }
         User user = userRepository.findByAccountNumber(requestDto.getAccountNumber())
                 .orElseThrow(() -> new DataNotFoundException("Account number not found"));
-        User user1 = userRepository.findByUsername(principal.getName())
+        User user1 = currentUserService.find(principal)
                 .orElseThrow(() -> new DataNotFoundException("User not found"));
         Optional<Destination> existingDestination = destinationRepository.findByUserAndAccountNumber(user1,
                 requestDto.getAccountNumber());
@@ -247,92 +270,73 @@ public class TransactionServiceImpl implements TransactionService {
         return destinationDetail;
     }
 
-    private Map<String, String> parseQRIS(String qris) {
-        Map<String, String> result = new java.util.HashMap<>();
-        int index = 0;
-
-        while (index < qris.length()) {
-            if (index + 4 > qris.length()) {
-                throw new IllegalArgumentException("QRIS format is not suitable");
-            }
-
-            String tag = qris.substring(index, index + 2);
-            index += 2;
-
-            int length;
-            try {
-                length = Integer.parseInt(qris.substring(index, index + 2));
-            } catch (NumberFormatException e) {
-                throw new IllegalArgumentException("QRIS format is not suitable", e);
-            }
-            index += 2;
-
-            if (index + length > qris.length()) {
-                throw new IllegalArgumentException("QRIS format is not suitable");
-            }
-
-            String value = qris.substring(index, index + length);
-            index += length;
+    /*
+     * Rejects malformed or corrupted scans before any database lookup or PIN
+     * hashing is done for them.
+     */
+    private QrisPayload parseQris(String qris) {
+        QrisPayload payload = QrisPayload.parse(qris);
 
-            result.put(tag, value);
+        if (!payload.hasValidCrc()) {
+            throw new BadRequestException("Invalid QRIS");
         }
 
-        return result;
+        return payload;
     }
 
     @Override
     public QrisResponseDto detailQris(String qris) {
-        Map<String, String> qrisMap = parseQRIS(qris);
+        QrisPayload payload = parseQris(qris);
 
         QrisResponseDto qrisResponse = new QrisResponseDto();
-        if (qrisMap.get("01").equals("11")) {
+        if (payload.isStatic()) {
             qrisResponse.setType("static");
-        } else if (qrisMap.get("01").equals("12")) {
+        } else if (payload.isDynamic()) {
             qrisResponse.setType("dynamic");
         } else {
             qrisResponse.setType("unknown");
         }
 
-        qrisResponse.setTransactionId(qrisMap.get("62"));
-        qrisResponse.setMerchant(qrisMap.get("59"));
-        qrisResponse.setAmount(qrisMap.get("54"));
-
-        if (qrisMap.containsKey("62")) {
-            String transactionId = qrisMap.get("62");
-
-            if (transactionId.contains("00")) {
-                int indexOfLength = transactionId.lastIndexOf("00");
-
-                int length = Integer.parseInt(transactionId.substring(indexOfLength + 2, indexOfLength + 4));
-                qrisResponse.setAccountNumber(transactionId.substring(indexOfLength - length, indexOfLength));
-            }
-        }
+        qrisResponse.setTransactionId(payload.getTransactionId());
+        qrisResponse.setMerchant(payload.getMerchantName());
+        qrisResponse.setAmount(payload.getTransactionAmount());
+        qrisResponse.setAccountNumber(payload.getAccountNumber());
 
         return qrisResponse;
     }
 
+    /*
+     * As with createTransaction, the PIN is checked before the transaction.
+     */
     @Override
-    @Transactional
     public QrisTransferResponseDto createTransactionQris(Principal principal, QrisDto qrisDto) {
-        User user = userRepository.findByUsername(principal.getName())
+        QrisPayload payload = parseQris(qrisDto.getQris());
+
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
-        if (!passwordEncoder.matches(qrisDto.getPin(), user.getPin())) {
+        if (!credentialVerificationService.matches(qrisDto.getPin(), user.getPin())) {
             throw new BadRequestException("Invalid PIN");
         }
 
-        Map<String, String> qrisMap = parseQRIS(qrisDto.getQris());
-        Qris qris = qrisRepository.findByTransactionId(qrisMap.get("62"));
+        return transactionRetryTemplate.execute(() -> transferQris(principal, qrisDto, payload));
+    }
+
+    private QrisTransferResponseDto transferQris(Principal principal, QrisDto qrisDto, QrisPayload payload) {
+        User user = currentUserService.find(principal)
+                .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
+
+        Qris qris = qrisRepository.findByTransactionId(payload.getTransactionId());
 
         HashMap<String, Object> data;
-        String merchant = qrisMap.get("59");
-
-        if (qrisMap.get("52").equals("0000")) {
-            data = handlePersonToPersonTransaction(user, qrisDto, qrisMap, qris);
-        } else if (qrisMap.get("01").equals("11")) {
-            data = handleMerchantTransaction(user, qrisDto, qrisMap, qris, true);
-        } else if (qrisMap.get("01").equals("12")) {
-            data = handleMerchantTransaction(user, qrisDto, qrisMap, qris, false);
+        String merchant = payload.getMerchantName();
+
+        if (payload.valueEquals(QrisPayload.MERCHANT_CATEGORY_CODE, "0000")) {
+            data = handlePersonToPersonTransaction(user, qrisDto, payload, qris);
+        } else if (payload.isStatic()) {
+            data = handleMerchantTransaction(user, qrisDto, payload, qris, true);
+        } else if (payload.isDynamic()) {
+            data = handleMerchantTransaction(user, qrisDto, payload, qris, false);
         } else {
             throw new BadRequestException("Invalid QRIS");
         }
@@ -341,17 +345,13 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private HashMap<String, Object> handlePersonToPersonTransaction(User user, QrisDto qrisDto,
-            Map<String, String> qrisMap, Qris qris) {
-        String transactionId = qrisMap.get("62");
-        int indexOfLength = transactionId.lastIndexOf("00");
+            QrisPayload payload, Qris qris) {
+        String accountNumber = payload.getAccountNumber();
 
-        if (indexOfLength == -1 || indexOfLength + 2 > transactionId.length() - 2) {
+        if (accountNumber == null) {
             throw new BadRequestException("Invalid QRIS");
         }
 
-        int length = Integer.parseInt(transactionId.substring(indexOfLength + 2, indexOfLength + 4));
-        String accountNumber = transactionId.substring(indexOfLength - length, indexOfLength);
-
         if (accountNumber.equals(user.getAccountNumber())) {
             throw new BadRequestException("Can't transfer to your own account");
         }
@@ -359,19 +359,21 @@ public class TransactionServiceImpl implements TransactionService {
         User receiver = userRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new DataNotFoundException("Receiver not found"));
 
-        if (qris != null && qris.isUsed()) {
-            throw new BadRequestException("Transaction already exists");
+        // Transfer codes are only issued by createQris, so a missing row was purged after it expired unpaid
+        if (qris == null) {
+            throw new BadRequestException("QRIS expired");
         }
 
-        double amount = qrisMap.get("01").equals("11") ? Double.parseDouble(qrisDto.getAmount())
-                : Double.parseDouble(qrisMap.get("54"));
+        checkQrisPayable(qris);
+
+        Money amount = Money.parse(payload.isStatic() ? qrisDto.getAmount() : payload.getTransactionAmount());
 
         TransactionDetails details = new TransactionDetails();
         details.setUser(user);
         details.setReceiver(receiver);
         details.setFullName(receiver.getFullName());
         details.setAccountNumber(receiver.getAccountNumber());
-        details.setQrisMap(qrisMap);
+        details.setQrisPayload(payload);
         details.setAmount(amount);
         details.setDescription(qrisDto.getDescription());
         details.setQris(qris);
@@ -386,21 +388,21 @@ public class TransactionServiceImpl implements TransactionService {
         return data;
     }
 
-    private HashMap<String, Object> handleMerchantTransaction(User user, QrisDto qrisDto, Map<String, String> qrisMap,
+    private HashMap<String, Object> handleMerchantTransaction(User user, QrisDto qrisDto, QrisPayload payload,
             Qris qris,
             boolean isStatic) {
-        double amount = Double.parseDouble(isStatic ? qrisDto.getAmount() : qrisMap.get("54"));
+        Money amount = Money.parse(isStatic ? qrisDto.getAmount() : payload.getTransactionAmount());
         UUID mutationId;
 
-        if (qris != null && qris.isUsed()) {
-            throw new BadRequestException("Transaction already exists");
+        if (qris != null) {
+            checkQrisPayable(qris);
         }
 
         if (isStatic) {
             TransactionDetails details = new TransactionDetails();
             details.setUser(user);
-            details.setFullName(qrisMap.get("59"));
-            details.setQrisMap(qrisMap);
+            details.setFullName(payload.getMerchantName());
+            details.setQrisPayload(payload);
             details.setAmount(amount);
             details.setDescription(qrisDto.getDescription());
             details.setQris(qris);
@@ -411,7 +413,7 @@ public class TransactionServiceImpl implements TransactionService {
         } else {
             Qris newQris = new Qris();
             newQris.setType(QrisType.MPM);
-            newQris.setTransactionId(qrisMap.get("62"));
+            newQris.setTransactionId(payload.getTransactionId());
             newQris.setPayload(qrisDto.getQris());
             newQris.setUsed(true);
             newQris.setExpiredAt(LocalDateTime.now());
@@ -419,8 +421,8 @@ public class TransactionServiceImpl implements TransactionService {
 
             TransactionDetails newQrisDetails = new TransactionDetails();
             newQrisDetails.setUser(user);
-            newQrisDetails.setFullName(qrisMap.get("59"));
-            newQrisDetails.setQrisMap(qrisMap);
+            newQrisDetails.setFullName(payload.getMerchantName());
+            newQrisDetails.setQrisPayload(payload);
             newQrisDetails.setAmount(amount);
             newQrisDetails.setDescription(qrisDto.getDescription());
             newQrisDetails.setQris(newQris);
@@ -436,23 +438,30 @@ public class TransactionServiceImpl implements TransactionService {
         return data;
     }
 
-    private UUID processTransaction(TransactionDetails details) {
-        User user = details.getUser();
-        double amount = details.getAmount();
+    /*
+     * Used rows are never purged (see QrisRepository.deleteExpiredBefore), so
+     * a paid code is always found here. Reusable stable static codes don't
+     * expire.
+     */
+    private void checkQrisPayable(Qris qris) {
+        if (qris.isUsed()) {
+            throw new BadRequestException("Transaction already exists");
+        }
 
-        if (user.getBalance() < amount) {
-            throw new BadRequestException("Insufficient balance");
+        if (!qris.isReusable() && qris.getExpiredAt().isBefore(LocalDateTime.now())) {
+            throw new BadRequestException("QRIS expired");
         }
+    }
 
-        user.setBalance(user.getBalance() - amount);
-        userRepository.save(user);
+    private UUID processTransaction(TransactionDetails details) {
+        User user = details.getUser();
+        Money amount = details.getAmount();
 
         UUID mutationId;
 
         if (details.getReceiver() != null) {
             User receiver = details.getReceiver();
-            receiver.setBalance(receiver.getBalance() + amount);
-            userRepository.save(receiver);
+            balanceService.transfer(user, receiver, amount);
 
             mutationId = saveMutation(details, TransactionType.DEBIT).getId();
 
@@ -460,7 +469,7 @@ public class TransactionServiceImpl implements TransactionService {
             receiverDetails.setUser(receiver);
             receiverDetails.setFullName(user.getFullName());
             receiverDetails.setAccountNumber(user.getAccountNumber());
-            receiverDetails.setQrisMap(details.getQrisMap());
+            receiverDetails.setQrisPayload(details.getQrisPayload());
             receiverDetails.setAmount(amount);
             receiverDetails.setDescription(details.getDescription());
             receiverDetails.setQris(details.getQris());
@@ -469,10 +478,11 @@ public class TransactionServiceImpl implements TransactionService {
 
             saveMutation(receiverDetails, TransactionType.CREDIT);
         } else {
+            balanceService.debit(user, amount);
             mutationId = saveMutation(details, TransactionType.DEBIT).getId();
         }
 
-        if (details.getQris() != null) {
+        if (details.getQris() != null && !details.getQris().isReusable()) {
             details.getQris().setUsed(true);
             qrisRepository.save(details.getQris());
         }
@@ -492,6 +502,7 @@ public class TransactionServiceImpl implements TransactionService {
         mutation.setFullName(details.getFullName());
         mutation.setAccountNumber(details.getAccountNumber());
         mutationRepository.save(mutation);
+        mutationRollupService.record(mutation);
 
         return mutation;
     }
@@ -507,7 +518,7 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     @Override
-    public QrisGenerateResponseDto createQris(Principal principal, QrisGenerateMPMDto qrisMPMDto) {
+    public QrisGenerateResponseDto createQris(Principal principal, QrisGenerateMPMDto qrisMPMDto, QrisFormat format) {
         if (qrisMPMDto != null && qrisMPMDto.getAmount() != null) {
             if (qrisMPMDto.getAmount() <= 0) {
                 throw new BadRequestException("Amount must be greater than zero");
@@ -517,39 +528,48 @@ public class TransactionServiceImpl implements TransactionService {
             qrisMPMDto.setAmount(null);
         }
 
-        User user = userRepository.findByUsername(principal.getName())
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
-        String qr = generateService.generateQrisMPM(user, UUID.randomUUID().toString().replace("-", ""),
-                qrisMPMDto.getAmount());
+        boolean stable = stableStaticQris && qrisMPMDto.getAmount() == null;
+        String transactionId = stable ? staticTransactionId(user) : UUID.randomUUID().toString().replace("-", "");
+        String qr = generateService.generateQrisMPM(user, transactionId, qrisMPMDto.getAmount());
         LocalDateTime expiredAt = LocalDateTime.now().plusHours(24);
+        String qrisTransactionId = QrisPayload.parse(qr).getTransactionId();
 
-        Map<String, String> qrisMap = parseQRIS(qr);
-
-        Qris qris = new Qris();
-        qris.setUser(user);
-        qris.setType(QrisType.MPM);
-        qris.setTransactionId(qrisMap.get("62"));
-        qris.setPayload(qr);
-        qris.setUsed(false);
-        qris.setExpiredAt(expiredAt);
-        qrisRepository.save(qris);
-
-        String qrImage = Base64Util.convertImage(generateService.generateQRCodeImage(qr, 300, 300));
+        if (stable) {
+            qrisRepository.upsertReusable(user.getId(), QrisType.MPM.ordinal(), qrisTransactionId, qr,
+                    Qris.digest(qr), expiredAt);
+        } else {
+            Qris qris = new Qris();
+            qris.setUser(user);
+            qris.setType(QrisType.MPM);
+            qris.setTransactionId(qrisTransactionId);
+            qris.setPayload(qr);
+            qris.setUsed(false);
+            qris.setExpiredAt(expiredAt);
+            qrisRepository.save(qris);
+        }
 
-        QrisGenerateResponseDto responseDto = new QrisGenerateResponseDto();
-        responseDto.setQris(qrImage);
-        responseDto.setExpiredAt(expiredAt);
+        return toQrisGenerateResponse(qr, expiredAt, format, null, stable);
+    }
 
-        return responseDto;
+    /*
+     * Same reference label for every static QR of a user, so the payload, and
+     * with it the rendered image, only changes when the user's details do.
+     */
+    private static String staticTransactionId(User user) {
+        return UUID.nameUUIDFromBytes(("static-qris:" + user.getId()).getBytes(StandardCharsets.UTF_8))
+                .toString().replace("-", "");
     }
 
     @Override
-    public QrisGenerateResponseDto createQrisCPM(Principal principal, QrisGenerateCPMDto qrisCPMDto) {
-        User user = userRepository.findByUsername(principal.getName())
+    public QrisGenerateResponseDto createQrisCPM(Principal principal, QrisGenerateCPMDto qrisCPMDto,
+            QrisFormat format) {
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
-        if (!passwordEncoder.matches(qrisCPMDto.getPin(), user.getPin())) {
+        if (!credentialVerificationService.matches(qrisCPMDto.getPin(), user.getPin())) {
             throw new BadRequestException("Invalid PIN");
         }
 
@@ -566,19 +586,27 @@ public class TransactionServiceImpl implements TransactionService {
         qris.setExpiredAt(expiredAt);
         qrisRepository.save(qris);
 
-        String path = "images/RupiApp.png";
-        BufferedImage logo = null;
-
-        try {
-            logo = ImageIO.read(new File(path));
-        } catch (Exception e) {
-            throw new BadRequestException("Invalid logo path");
-        }
-
-        String qrImage = Base64Util.convertImage(generateService.generateQRCodeImage(qr, 300, 300, logo));
+        BufferedImage logo = format == null || format == QrisFormat.PNG ? qrLogoService.getLogo(300, 300) : null;
+        return toQrisGenerateResponse(qr, expiredAt, format, logo, false);
+    }
 
+    /*
+     * Only PNG is rasterized and compressed here. SVG and the module matrix
+     * are drawn by the client (without the logo), and PAYLOAD hands over the
+     * QRIS string for clients that run their own QR encoder. Stable static
+     * codes repeat their payload and are served from the render cache.
+     */
+    private QrisGenerateResponseDto toQrisGenerateResponse(String qr, LocalDateTime expiredAt, QrisFormat format,
+            BufferedImage logo, boolean cacheable) {
         QrisGenerateResponseDto responseDto = new QrisGenerateResponseDto();
-        responseDto.setQris(qrImage);
+        switch (format == null ? QrisFormat.PNG : format) {
+            case SVG -> responseDto.setSvg(generateService.generateQRCodeSvg(qr));
+            case MATRIX -> responseDto.setMatrix(generateService.generateQRCodeMatrix(qr));
+            case PAYLOAD -> responseDto.setPayload(qr);
+            default -> responseDto.setQris(cacheable
+                    ? qrImageService.renderCachedPng(qr, 300, 300, logo)
+                    : qrImageService.renderPng(qr, 300, 300, logo));
+        }
         responseDto.setExpiredAt(expiredAt);
 
         return responseDto;
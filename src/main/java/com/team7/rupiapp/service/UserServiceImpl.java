@@ -46,15 +46,21 @@ public class UserServiceImpl implements UserService {
     private final ModelMapper modelMapper;
     private final PasswordEncoder passwordEncoder;
     private final GenerateService generateService;
+    private final OtpService otpService;
+    private final CredentialVerificationService credentialVerificationService;
     private final NotifierService notifierService;
     private final WhatsappClient whatsappClient;
+    private final AuthenticatedUserService authenticatedUserService;
+    private final CurrentUserService currentUserService;
 
     private final UserRepository userRepository;
     private final OtpRepository otpRepository;
 
     public UserServiceImpl(ModelMapper modelMapper, PasswordEncoder passwordEncoder, GenerateService generateService,
             NotifierService notifierService, WhatsappClient whatsappClient, UserRepository userRepository,
-            OtpRepository otpRepository) {
+            OtpRepository otpRepository, AuthenticatedUserService authenticatedUserService,
+            CurrentUserService currentUserService, OtpService otpService,
+            CredentialVerificationService credentialVerificationService) {
         this.modelMapper = modelMapper;
         this.passwordEncoder = passwordEncoder;
         this.generateService = generateService;
@@ -62,6 +68,10 @@ public class UserServiceImpl implements UserService {
         this.whatsappClient = whatsappClient;
         this.userRepository = userRepository;
         this.otpRepository = otpRepository;
+        this.authenticatedUserService = authenticatedUserService;
+        this.currentUserService = currentUserService;
+        this.otpService = otpService;
+        this.credentialVerificationService = credentialVerificationService;
     }
 
     @Value("${spring.upload.directory}")
@@ -72,7 +82,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public UserProfileResponseDto getUserProfile(Principal principal) {
-        User user = userRepository.findByUsername(principal.getName())
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
         UserProfileResponseDto userProfile = modelMapper.map(user, UserProfileResponseDto.class);
@@ -83,7 +93,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public void changeProfile(Principal principal, UserChangeProfileDto userChangeProfileDto) {
-        User user = userRepository.findByUsername(principal.getName())
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
         String alias = userChangeProfileDto.getName();
@@ -122,11 +132,12 @@ public class UserServiceImpl implements UserService {
         }
 
         userRepository.save(user);
+        authenticatedUserService.evict(user.getUsername());
     }
 
     @Override
     public void changeEmail(Principal principal, UserChangeEmailDto userChangeEmailDto) {
-        User user = userRepository.findByUsername(principal.getName())
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
         if (userRepository.existsByEmail(userChangeEmailDto.getEmail())) {
@@ -151,7 +162,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public void resendEmail(Principal principal) {
-        User user = userRepository.findByUsername(principal.getName())
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
         otpRepository.findByUserAndType(user, OtpType.CHANGE_EMAIL).ifPresent(otp -> {
@@ -176,7 +187,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public void verifyEmail(Principal principal, UserVerifyOtpDto userVerifyOtpDto) {
-        User user = userRepository.findByUsername(principal.getName())
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
         Otp otp = otpRepository.findByUserAndType(user, OtpType.CHANGE_EMAIL)
@@ -187,24 +198,22 @@ public class UserServiceImpl implements UserService {
             throw new BadRequestException("OTP expired");
         }
 
-        if (passwordEncoder.matches(userVerifyOtpDto.getOtp(), otp.getCode())) {
-            notifierService.sendAlertEmail(user.getEmail(), user.getAlias(), "Email Berhasil Diubah",
-                    "Email Anda berhasil diubah menjadi " + otp.getNewValue()
-                            + " per tanggal {time}. Jika Anda tidak merasa melakukan perubahan ini, segera hubungi kami.");
+        otpService.verify(otp, userVerifyOtpDto.getOtp());
 
-            user.setEmail(otp.getNewValue());
-            userRepository.save(user);
-            otpRepository.delete(otp);
+        notifierService.sendAlertEmail(user.getEmail(), user.getAlias(), "Email Berhasil Diubah",
+                "Email Anda berhasil diubah menjadi " + otp.getNewValue()
+                        + " per tanggal {time}. Jika Anda tidak merasa melakukan perubahan ini, segera hubungi kami.");
 
-            log.info("Email changed for user {}", user.getUsername());
-        } else {
-            throw new BadRequestException("Invalid OTP");
-        }
+        user.setEmail(otp.getNewValue());
+        userRepository.save(user);
+        otpRepository.delete(otp);
+
+        log.info("Email changed for user {}", user.getUsername());
     }
 
     @Override
     public void changeNumber(Principal principal, UserChangePhoneDto userChangePhoneDto) {
-        User user = userRepository.findByUsername(principal.getName())
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
         if (userRepository.existsByPhone(userChangePhoneDto.getPhone())) {
@@ -240,7 +249,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public void resendNumber(Principal principal) {
-        User user = userRepository.findByUsername(principal.getName())
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
         otpRepository.findByUserAndType(user, OtpType.CHANGE_PHONE).ifPresent(otp -> {
@@ -265,7 +274,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public void verifyNumber(Principal principal, UserVerifyOtpDto userVerifyOtpDto) {
-        User user = userRepository.findByUsername(principal.getName())
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
         Otp otp = otpRepository.findByUserAndType(user, OtpType.CHANGE_PHONE)
@@ -276,26 +285,24 @@ public class UserServiceImpl implements UserService {
             throw new BadRequestException("OTP expired");
         }
 
-        if (passwordEncoder.matches(userVerifyOtpDto.getOtp(), otp.getCode())) {
-            notifierService.sendAlertEmail(user.getEmail(), user.getAlias(), "Nomor Telepon Berhasil Diubah",
-                    "Nomor telepon Anda berhasil diubah menjadi *****"
-                            + otp.getNewValue().substring(otp.getNewValue().length() - 4)
-                            + " per tanggal {time}. Jika Anda tidak merasa melakukan perubahan ini, segera hubungi kami.");
+        otpService.verify(otp, userVerifyOtpDto.getOtp());
 
-            user.setPhone(otp.getNewValue());
-            userRepository.save(user);
-            otpRepository.delete(otp);
-        } else {
-            throw new BadRequestException("Invalid OTP");
-        }
+        notifierService.sendAlertEmail(user.getEmail(), user.getAlias(), "Nomor Telepon Berhasil Diubah",
+                "Nomor telepon Anda berhasil diubah menjadi *****"
+                        + otp.getNewValue().substring(otp.getNewValue().length() - 4)
+                        + " per tanggal {time}. Jika Anda tidak merasa melakukan perubahan ini, segera hubungi kami.");
+
+        user.setPhone(otp.getNewValue());
+        userRepository.save(user);
+        otpRepository.delete(otp);
     }
 
     @Override
     public UserSignatureResponseDto verifyPassword(Principal principal, UserVerifyPasswordDto userVerifyPasswordDto) {
-        User user = userRepository.findByUsername(principal.getName())
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
-        if (passwordEncoder.matches(userVerifyPasswordDto.getPassword(), user.getPassword())) {
+        if (credentialVerificationService.matches(userVerifyPasswordDto.getPassword(), user.getPassword())) {
             UserSignatureResponseDto signature = new UserSignatureResponseDto();
             signature.setSignature(generateService.generateSignature(user.getId().toString(), user.getPassword()));
 
@@ -307,7 +314,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public void changePassword(Principal principal, String signature, UserChangePasswordDto userChangePasswordDto) {
-        User user = userRepository.findByUsername(principal.getName())
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
         if (signature == null
@@ -319,7 +326,7 @@ public class UserServiceImpl implements UserService {
             throw new BadRequestException("Password and confirm password must be the same");
         }
 
-        if (passwordEncoder.matches(userChangePasswordDto.getPassword(), user.getPassword())) {
+        if (credentialVerificationService.matches(userChangePasswordDto.getPassword(), user.getPassword())) {
             throw new BadRequestException("New password cannot be the same as the old password");
         }
 
@@ -328,14 +335,15 @@ public class UserServiceImpl implements UserService {
 
         user.setPassword(passwordEncoder.encode(userChangePasswordDto.getPassword()));
         userRepository.save(user);
+        authenticatedUserService.evict(user.getUsername());
     }
 
     @Override
     public UserSignatureResponseDto verifyPin(Principal principal, UserVerifyPinDto userVerifyPinDto) {
-        User user = userRepository.findByUsername(principal.getName())
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
-        if (passwordEncoder.matches(userVerifyPinDto.getPin(), user.getPin())) {
+        if (credentialVerificationService.matches(userVerifyPinDto.getPin(), user.getPin())) {
             UserSignatureResponseDto signature = new UserSignatureResponseDto();
             signature.setSignature(generateService.generateSignature(user.getId().toString(), user.getPin()));
 
@@ -347,7 +355,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public void changePin(Principal principal, String signature, UserChangePinDto userChangePinDto) {
-        User user = userRepository.findByUsername(principal.getName())
+        User user = currentUserService.find(principal)
                 .orElseThrow(() -> new UsernameNotFoundException("User not registered"));
 
         if (signature == null || !generateService.verifySignature(user.getId().toString(), user.getPin(), signature)) {
@@ -358,7 +366,7 @@ public class UserServiceImpl implements UserService {
             throw new BadRequestException("Pin and confirm pin must be the same");
         }
 
-        if (passwordEncoder.matches(userChangePinDto.getPin(), user.getPin())) {
+        if (credentialVerificationService.matches(userChangePinDto.getPin(), user.getPin())) {
             throw new BadRequestException("New pin cannot be the same as the old pin");
         }
 
@@ -367,5 +375,6 @@ public class UserServiceImpl implements UserService {
 
         user.setPin(passwordEncoder.encode(userChangePinDto.getPin()));
         userRepository.save(user);
+        authenticatedUserService.evict(user.getUsername());
     }
 }
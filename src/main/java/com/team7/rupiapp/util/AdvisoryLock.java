@@ -0,0 +1,51 @@
+package com.team7.rupiapp.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/*
+ * Runs a task while holding a PostgreSQL session advisory lock, so that only
+ * one application instance runs it at a time. The lock is only tried, never
+ * waited for: when another instance holds it the task is skipped.
+ *
+ * The lock lives on its own connection for the duration of the task, the
+ * task itself runs its statements in its own transactions.
+ */
+public final class AdvisoryLock {
+    private AdvisoryLock() {
+    }
+
+    /*
+     * Returns false when the lock was held elsewhere and the task didn't run.
+     */
+    public static boolean tryRun(JdbcTemplate jdbcTemplate, long key, Runnable task) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!query(connection, "SELECT pg_try_advisory_lock(?)", key)) {
+                return false;
+            }
+
+            try {
+                task.run();
+                return true;
+            } finally {
+                query(connection, "SELECT pg_advisory_unlock(?)", key);
+            }
+        });
+
+        return Boolean.TRUE.equals(ran);
+    }
+
+    private static boolean query(Connection connection, String sql, long key) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, key);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
@@ -1,12 +1,9 @@
 package com.team7.rupiapp.util;
 
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Base64;
 
-import javax.imageio.ImageIO;
-
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -15,10 +12,8 @@ public class Base64Util {
     }
 
     public static String convertImage(BufferedImage image) {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            ImageIO.write(image, "png", baos);
-            byte[] imageBytes = baos.toByteArray();
-            return Base64.getEncoder().encodeToString(imageBytes);
+        try {
+            return Base64.getEncoder().encodeToString(PngEncoder.encode(image));
         } catch (IOException e) {
             log.error("Error converting image to Base64", e);
             throw new RuntimeException("Error converting image to Base64");
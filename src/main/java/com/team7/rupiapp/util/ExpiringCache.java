@@ -0,0 +1,197 @@
+package com.team7.rupiapp.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/*
+ * Small bounded, thread-safe cache where every entry can carry its own expiry
+ * (epoch millis). The bound is an entry count, or a total weight when values
+ * differ a lot in size. Reads never lock or reorder anything: an entry only
+ * records roughly when it was last read. Expired entries are dropped on read.
+ * When a put takes the cache past its bound, that one thread drops the
+ * expired entries and then the least recently read ones, down to a few
+ * percent under the bound, so the scan runs once per batch of puts and
+ * readers never wait on it. Puts that find the cache a full batch over while
+ * that scan runs make room by dropping an arbitrary entry instead of waiting.
+ */
+public class ExpiringCache<K, V> {
+    private static final long NEVER = Long.MAX_VALUE;
+
+    // Hot entries are read by many threads at once; skip the write unless it changes something
+    private static final long ACCESS_RESOLUTION = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong weight = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final ToLongFunction<? super V> weigher;
+    private final long maxWeight;
+    private final long evictionBatch;
+
+    public ExpiringCache(int maxSize) {
+        this(maxSize, value -> 1);
+    }
+
+    public ExpiringCache(long maxWeight, ToLongFunction<? super V> weigher) {
+        this.weigher = weigher;
+        this.maxWeight = maxWeight;
+        this.evictionBatch = Math.max(1, maxWeight / 20);
+    }
+
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+
+        if (entry != null && entry.expiresAt <= System.currentTimeMillis()) {
+            remove(key, entry);
+            entry = null;
+        }
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        entry.touch();
+        hits.increment();
+        return entry.value;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, NEVER);
+    }
+
+    public void put(K key, V value, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+
+        Entry<V> entry = new Entry<>(value, expiresAt, weigher.applyAsLong(value));
+        Entry<V> previous = entries.put(key, entry);
+        weight.addAndGet(previous == null ? entry.weight : entry.weight - previous.weight);
+
+        // Puts that land while another thread evicts are picked up by its next pass
+        while (weight.get() > maxWeight) {
+            if (!evicting.compareAndSet(false, true)) {
+                // The evicting thread may be descheduled; don't let the cache grow without it
+                if (weight.get() > maxWeight + evictionBatch) {
+                    removeOtherThan(key);
+                }
+                return;
+            }
+
+            try {
+                evict();
+            } finally {
+                evicting.set(false);
+            }
+        }
+    }
+
+    public void invalidate(K key) {
+        Entry<V> entry = entries.remove(key);
+        if (entry != null) {
+            weight.addAndGet(-entry.weight);
+        }
+    }
+
+    public void invalidateAll() {
+        for (K key : entries.keySet()) {
+            invalidate(key);
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long weight() {
+        return weight.get();
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        List<Candidate<K, V>> live = new ArrayList<>(entries.size());
+        for (Map.Entry<K, Entry<V>> mapping : entries.entrySet()) {
+            Entry<V> entry = mapping.getValue();
+            if (entry.expiresAt <= now) {
+                remove(mapping.getKey(), entry);
+            } else {
+                // Read lastAccess once; readers keep updating it while this sorts
+                live.add(new Candidate<>(mapping.getKey(), entry, entry.lastAccess));
+            }
+        }
+
+        long excess = weight.get() - maxWeight;
+        if (excess <= 0) {
+            return;
+        }
+
+        live.sort(Comparator.comparingLong(Candidate::lastAccess));
+
+        long removed = 0;
+        for (int i = 0; i < live.size() && removed < excess + evictionBatch; i++) {
+            Candidate<K, V> candidate = live.get(i);
+            if (remove(candidate.key(), candidate.entry())) {
+                removed += candidate.entry().weight;
+            }
+        }
+    }
+
+    private void removeOtherThan(K key) {
+        for (Map.Entry<K, Entry<V>> mapping : entries.entrySet()) {
+            // Another put may be dropping the same entry; keep going until one is ours
+            if (!mapping.getKey().equals(key) && remove(mapping.getKey(), mapping.getValue())) {
+                return;
+            }
+        }
+    }
+
+    private boolean remove(K key, Entry<V> entry) {
+        if (!entries.remove(key, entry)) {
+            return false;
+        }
+
+        weight.addAndGet(-entry.weight);
+        return true;
+    }
+
+    private record Candidate<K, V>(K key, Entry<V> entry, long lastAccess) {
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+        private final long weight;
+        private volatile long lastAccess = System.nanoTime();
+
+        private Entry(V value, long expiresAt, long weight) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.weight = weight;
+        }
+
+        private void touch() {
+            long now = System.nanoTime();
+            if (now - lastAccess > ACCESS_RESOLUTION) {
+                lastAccess = now;
+            }
+        }
+    }
+}
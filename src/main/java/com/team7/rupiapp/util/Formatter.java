@@ -1,20 +1,32 @@
 package com.team7.rupiapp.util;
 
-import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.util.Locale;
 
+import com.team7.rupiapp.model.Money;
+
 public class Formatter {
-    public static String formatToIDR(double amount) {
-        NumberFormat formatter = NumberFormat.getCurrencyInstance(new Locale("id", "ID"));
-        return formatter.format(amount);
+    private static final Locale LOCALE_ID = Locale.of("id", "ID");
+
+    /*
+     * NumberFormat is expensive to build and not thread-safe, so each thread
+     * keeps its own instance instead of creating one per call.
+     */
+    private static final ThreadLocal<NumberFormat> IDR_FORMAT = ThreadLocal
+            .withInitial(() -> NumberFormat.getCurrencyInstance(LOCALE_ID));
+
+    private Formatter() {
     }
 
-    public static String formatToString(double value) {
-        DecimalFormat df = new DecimalFormat("#");
-        df.setMaximumFractionDigits(Integer.MAX_VALUE);
-        df.setGroupingUsed(false);
+    public static String formatToIDR(Money amount) {
+        return IDR_FORMAT.get().format(amount.toBigDecimal());
+    }
 
-        return df.format(value);
+    /*
+     * Plain decimal without grouping or trailing zeros. Works directly on the
+     * minor units, so whole-rupiah amounts cost a single Long.toString.
+     */
+    public static String formatToString(Money value) {
+        return value.toPlainString();
     }
 }
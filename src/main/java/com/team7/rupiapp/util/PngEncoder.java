@@ -0,0 +1,150 @@
+package com.team7.rupiapp.util;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.IndexColorModel;
+import java.awt.image.MultiPixelPackedSampleModel;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import javax.imageio.ImageIO;
+
+/*
+ * Minimal PNG writer for the images QrCodeRenderer produces: 1-bit black and
+ * white rasters are written as 1-bit grayscale and TYPE_INT_RGB as 8-bit RGB,
+ * straight from the backing arrays and with the fastest deflate level. QR
+ * codes are mostly long runs, so the faster level barely affects the size.
+ * Anything else goes through ImageIO.
+ */
+public class PngEncoder {
+    private static final byte[] SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+    private static final int COLOR_TYPE_GRAYSCALE = 0;
+    private static final int COLOR_TYPE_RGB = 2;
+    private static final int FILTER_NONE = 0;
+
+    private PngEncoder() {
+    }
+
+    public static byte[] encode(BufferedImage image) throws IOException {
+        if (isBlackAndWhite(image)) {
+            return encodeBlackAndWhite(image);
+        }
+
+        if (image.getType() == BufferedImage.TYPE_INT_RGB && isUnshared(image)) {
+            return encodeRgb(image);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static byte[] encodeBlackAndWhite(BufferedImage image) throws IOException {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int stride = ((MultiPixelPackedSampleModel) image.getSampleModel()).getScanlineStride();
+        byte[] pixels = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+        int rowBytes = (width + 7) / 8;
+
+        ByteArrayOutputStream idat = new ByteArrayOutputStream(rowBytes * height / 8 + 64);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(idat, deflater)) {
+            for (int y = 0; y < height; y++) {
+                deflate.write(FILTER_NONE);
+                deflate.write(pixels, y * stride, rowBytes);
+            }
+        } finally {
+            deflater.end();
+        }
+
+        return png(width, height, 1, COLOR_TYPE_GRAYSCALE, idat.toByteArray());
+    }
+
+    private static byte[] encodeRgb(BufferedImage image) throws IOException {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        byte[] row = new byte[1 + width * 3];
+
+        ByteArrayOutputStream idat = new ByteArrayOutputStream(width * height / 4 + 64);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(idat, deflater)) {
+            for (int y = 0; y < height; y++) {
+                row[0] = FILTER_NONE;
+                int offset = y * width;
+                for (int x = 0, i = 1; x < width; x++) {
+                    int rgb = pixels[offset + x];
+                    row[i++] = (byte) (rgb >> 16);
+                    row[i++] = (byte) (rgb >> 8);
+                    row[i++] = (byte) rgb;
+                }
+                deflate.write(row);
+            }
+        } finally {
+            deflater.end();
+        }
+
+        return png(width, height, 8, COLOR_TYPE_RGB, idat.toByteArray());
+    }
+
+    private static byte[] png(int width, int height, int bitDepth, int colorType, byte[] idat) throws IOException {
+        ByteArrayOutputStream png = new ByteArrayOutputStream(idat.length + 64);
+        DataOutputStream out = new DataOutputStream(png);
+        out.write(SIGNATURE);
+
+        ByteArrayOutputStream ihdr = new ByteArrayOutputStream(13);
+        DataOutputStream header = new DataOutputStream(ihdr);
+        header.writeInt(width);
+        header.writeInt(height);
+        header.writeByte(bitDepth);
+        header.writeByte(colorType);
+        header.writeByte(0); // compression: deflate
+        header.writeByte(0); // filter method
+        header.writeByte(0); // no interlace
+
+        writeChunk(out, "IHDR", ihdr.toByteArray());
+        writeChunk(out, "IDAT", idat);
+        writeChunk(out, "IEND", new byte[0]);
+
+        return png.toByteArray();
+    }
+
+    private static void writeChunk(DataOutputStream out, String type, byte[] data) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data);
+
+        out.writeInt(data.length);
+        out.write(typeBytes);
+        out.write(data);
+        out.writeInt((int) crc.getValue());
+    }
+
+    /*
+     * TYPE_BYTE_BINARY with a black (0) / white (1) palette maps 1:1 onto 1-bit
+     * grayscale PNG samples.
+     */
+    private static boolean isBlackAndWhite(BufferedImage image) {
+        if (image.getType() != BufferedImage.TYPE_BYTE_BINARY || !isUnshared(image)
+                || !(image.getSampleModel() instanceof MultiPixelPackedSampleModel sampleModel)
+                || sampleModel.getPixelBitStride() != 1 || sampleModel.getDataBitOffset() != 0
+                || !(image.getColorModel() instanceof IndexColorModel colorModel)
+                || colorModel.getMapSize() != 2) {
+            return false;
+        }
+
+        return (colorModel.getRGB(0) & 0xFFFFFF) == 0x000000 && (colorModel.getRGB(1) & 0xFFFFFF) == 0xFFFFFF;
+    }
+
+    private static boolean isUnshared(BufferedImage image) {
+        return image.getRaster().getParent() == null && image.getRaster().getDataBuffer().getNumBanks() == 1
+                && image.getRaster().getDataBuffer().getOffset() == 0;
+    }
+}
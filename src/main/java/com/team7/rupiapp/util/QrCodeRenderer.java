@@ -0,0 +1,165 @@
+package com.team7.rupiapp.util;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+
+/*
+ * Renders a QR module matrix into an image without going through a
+ * pixel-resolution BitMatrix and per-pixel setRGB calls. Each module row is
+ * built once and copied to its pixel rows in bulk. Module size and padding
+ * follow QRCodeWriter (4 module quiet zone, integer scale, centered), so the
+ * output is pixel-identical to QRCodeWriter.encode(content, QR_CODE, w, h).
+ *
+ * For clients that draw the code themselves the matrix can also be emitted
+ * as a resolution independent SVG path or as plain module rows.
+ */
+public class QrCodeRenderer {
+    public static final int QUIET_ZONE = 4;
+
+    private static final int WHITE = 0xFFFFFF;
+    private static final int BLACK = 0x000000;
+
+    private QrCodeRenderer() {
+    }
+
+    /*
+     * 1-bit black and white image, 8 pixels per byte.
+     */
+    public static BufferedImage renderBinary(ByteMatrix modules, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_BINARY);
+        byte[] pixels = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+        int stride = (width + 7) / 8;
+        Arrays.fill(pixels, (byte) 0xFF);
+
+        Layout layout = new Layout(modules, width, height);
+        byte[] row = new byte[stride];
+        for (int moduleY = 0; moduleY < modules.getHeight(); moduleY++) {
+            int top = layout.topPadding + moduleY * layout.multiple;
+            if (top >= height) {
+                break;
+            }
+
+            Arrays.fill(row, (byte) 0xFF);
+            for (int moduleX = 0; moduleX < modules.getWidth(); moduleX++) {
+                if (modules.get(moduleX, moduleY) == 1) {
+                    int left = layout.leftPadding + moduleX * layout.multiple;
+                    for (int x = left; x < Math.min(left + layout.multiple, width); x++) {
+                        row[x >> 3] &= (byte) ~(0x80 >>> (x & 7));
+                    }
+                }
+            }
+
+            for (int y = top; y < Math.min(top + layout.multiple, height); y++) {
+                System.arraycopy(row, 0, pixels, y * stride, stride);
+            }
+        }
+
+        return image;
+    }
+
+    /*
+     * RGB image, for when something in colour (a logo) is drawn on top.
+     */
+    public static BufferedImage renderRgb(ByteMatrix modules, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        Arrays.fill(pixels, WHITE);
+
+        Layout layout = new Layout(modules, width, height);
+        int[] row = new int[width];
+        for (int moduleY = 0; moduleY < modules.getHeight(); moduleY++) {
+            int top = layout.topPadding + moduleY * layout.multiple;
+            if (top >= height) {
+                break;
+            }
+
+            Arrays.fill(row, WHITE);
+            for (int moduleX = 0; moduleX < modules.getWidth(); moduleX++) {
+                if (modules.get(moduleX, moduleY) == 1) {
+                    int left = Math.min(layout.leftPadding + moduleX * layout.multiple, width);
+                    Arrays.fill(row, left, Math.min(left + layout.multiple, width), BLACK);
+                }
+            }
+
+            for (int y = top; y < Math.min(top + layout.multiple, height); y++) {
+                System.arraycopy(row, 0, pixels, y * width, width);
+            }
+        }
+
+        return image;
+    }
+
+    /*
+     * SVG in module units, quiet zone included. Every horizontal run of dark
+     * modules becomes one "M x y h n v 1 h -n z" rectangle, so the markup
+     * grows with the number of runs instead of the number of modules.
+     */
+    public static String renderSvg(ByteMatrix modules) {
+        int size = modules.getWidth() + QUIET_ZONE * 2;
+        StringBuilder svg = new StringBuilder(modules.getWidth() * modules.getHeight());
+        svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 ")
+                .append(size).append(' ').append(modules.getHeight() + QUIET_ZONE * 2)
+                .append("\" shape-rendering=\"crispEdges\"><rect width=\"100%\" height=\"100%\" fill=\"#fff\"/><path d=\"");
+
+        for (int moduleY = 0; moduleY < modules.getHeight(); moduleY++) {
+            int moduleX = 0;
+            while (moduleX < modules.getWidth()) {
+                if (modules.get(moduleX, moduleY) != 1) {
+                    moduleX++;
+                    continue;
+                }
+
+                int start = moduleX;
+                while (moduleX < modules.getWidth() && modules.get(moduleX, moduleY) == 1) {
+                    moduleX++;
+                }
+
+                int run = moduleX - start;
+                svg.append('M').append(start + QUIET_ZONE).append(' ').append(moduleY + QUIET_ZONE)
+                        .append('h').append(run).append("v1h-").append(run).append('z');
+            }
+        }
+
+        return svg.append("\"/></svg>").toString();
+    }
+
+    /*
+     * One string of '0' (light) and '1' (dark) per module row, without the
+     * quiet zone.
+     */
+    public static List<String> renderRows(ByteMatrix modules) {
+        List<String> rows = new ArrayList<>(modules.getHeight());
+        char[] row = new char[modules.getWidth()];
+        for (int moduleY = 0; moduleY < modules.getHeight(); moduleY++) {
+            for (int moduleX = 0; moduleX < modules.getWidth(); moduleX++) {
+                row[moduleX] = modules.get(moduleX, moduleY) == 1 ? '1' : '0';
+            }
+            rows.add(new String(row));
+        }
+
+        return rows;
+    }
+
+    private static final class Layout {
+        private final int multiple;
+        private final int leftPadding;
+        private final int topPadding;
+
+        private Layout(ByteMatrix modules, int width, int height) {
+            int qrWidth = modules.getWidth() + QUIET_ZONE * 2;
+            int qrHeight = modules.getHeight() + QUIET_ZONE * 2;
+            int outputWidth = Math.max(width, qrWidth);
+            int outputHeight = Math.max(height, qrHeight);
+
+            this.multiple = Math.min(outputWidth / qrWidth, outputHeight / qrHeight);
+            this.leftPadding = (outputWidth - modules.getWidth() * multiple) / 2;
+            this.topPadding = (outputHeight - modules.getHeight() * multiple) / 2;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.team7.rupiapp.util;
+
+/*
+ * Read-only view over an EMV-MPM (QRIS) payload. The payload is scanned once
+ * and only the offsets of each data object are recorded; values are copied
+ * out only when a String accessor is called, and nested templates (merchant
+ * account information 26-51 and additional data 62) are parsed on first use.
+ *
+ * Tags and lengths are two decimal digits. When a tag occurs twice the last
+ * occurrence wins, as with the previous HashMap based parser.
+ */
+public final class QrisPayload {
+    public static final int PAYLOAD_FORMAT_INDICATOR = 0;
+    public static final int POINT_OF_INITIATION_METHOD = 1;
+    public static final int MERCHANT_CATEGORY_CODE = 52;
+    public static final int TRANSACTION_CURRENCY = 53;
+    public static final int TRANSACTION_AMOUNT = 54;
+    public static final int COUNTRY_CODE = 58;
+    public static final int MERCHANT_NAME = 59;
+    public static final int MERCHANT_CITY = 60;
+    public static final int POSTAL_CODE = 61;
+    public static final int ADDITIONAL_DATA_FIELD_TEMPLATE = 62;
+    public static final int CRC = 63;
+
+    public static final int REFERENCE_LABEL = 5;
+    public static final int TERMINAL_LABEL = 7;
+
+    private static final String STATIC = "11";
+    private static final String DYNAMIC = "12";
+    private static final int TAG_COUNT = 100;
+    private static final String INVALID_FORMAT = "QRIS format is not suitable";
+
+    private final CharSequence payload;
+    // (valueStart << 32 | valueEnd) per tag, 0 when the tag is absent
+    private final long[] ranges = new long[TAG_COUNT];
+    private QrisPayload[] templates;
+
+    private QrisPayload(CharSequence payload, int start, int end) {
+        this.payload = payload;
+
+        int index = start;
+        while (index < end) {
+            if (index + 4 > end) {
+                throw new IllegalArgumentException(INVALID_FORMAT);
+            }
+
+            int tag = twoDigits(payload, index);
+            int length = twoDigits(payload, index + 2);
+            index += 4;
+
+            if (index + length > end) {
+                throw new IllegalArgumentException(INVALID_FORMAT);
+            }
+
+            ranges[tag] = ((long) index << 32) | (index + length);
+            index += length;
+        }
+    }
+
+    public static QrisPayload parse(CharSequence payload) {
+        if (payload == null) {
+            throw new IllegalArgumentException(INVALID_FORMAT);
+        }
+
+        return new QrisPayload(payload, 0, payload.length());
+    }
+
+    public boolean has(int tag) {
+        return ranges[tag] != 0;
+    }
+
+    public String get(int tag) {
+        long range = ranges[tag];
+        if (range == 0) {
+            return null;
+        }
+
+        return payload.subSequence(start(range), end(range)).toString();
+    }
+
+    /*
+     * Compares a value against the expected text without copying it.
+     */
+    public boolean valueEquals(int tag, String expected) {
+        long range = ranges[tag];
+        if (range == 0) {
+            return false;
+        }
+
+        int start = start(range);
+        int length = end(range) - start;
+        if (length != expected.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (payload.charAt(start + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /*
+     * Nested template (merchant account information 26-51 or additional data
+     * 62), parsed on first access. Returns null when the tag is absent.
+     */
+    public QrisPayload template(int tag) {
+        if (!isTemplate(tag)) {
+            throw new IllegalArgumentException("Tag " + tag + " is not a template");
+        }
+
+        long range = ranges[tag];
+        if (range == 0) {
+            return null;
+        }
+
+        if (templates == null) {
+            templates = new QrisPayload[TAG_COUNT];
+        }
+
+        if (templates[tag] == null) {
+            templates[tag] = new QrisPayload(payload, start(range), end(range));
+        }
+
+        return templates[tag];
+    }
+
+    /*
+     * True when the payload ends with a CRC (tag 63, length 04) that matches the
+     * CRC-16/CCITT-FALSE of everything before its value, "6304" included.
+     * Cheap enough to run before any database or PIN work.
+     */
+    public boolean hasValidCrc() {
+        long range = ranges[CRC];
+        if (range == 0 || end(range) != payload.length() || end(range) - start(range) != 4) {
+            return false;
+        }
+
+        int start = start(range);
+        int expected = QrisUtil.crc16(payload, 0, start);
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(payload.charAt(start + i), 16);
+            if (digit != ((expected >> (12 - 4 * i)) & 0xF)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public boolean isStatic() {
+        return valueEquals(POINT_OF_INITIATION_METHOD, STATIC);
+    }
+
+    public boolean isDynamic() {
+        return valueEquals(POINT_OF_INITIATION_METHOD, DYNAMIC);
+    }
+
+    public String getMerchantCategoryCode() {
+        return get(MERCHANT_CATEGORY_CODE);
+    }
+
+    public String getTransactionAmount() {
+        return get(TRANSACTION_AMOUNT);
+    }
+
+    public String getMerchantName() {
+        return get(MERCHANT_NAME);
+    }
+
+    /*
+     * Raw additional data field (tag 62), which RupiApp uses as the transaction
+     * id of a QR code.
+     */
+    public String getTransactionId() {
+        return get(ADDITIONAL_DATA_FIELD_TEMPLATE);
+    }
+
+    /*
+     * Account number of a RupiApp QR code. GenerateService writes the terminal
+     * label (62.07) as accountNumber + "00" + two digit length of the account
+     * number. Returns null when the payload doesn't follow that layout.
+     */
+    public String getAccountNumber() {
+        if (!has(ADDITIONAL_DATA_FIELD_TEMPLATE)) {
+            return null;
+        }
+
+        QrisPayload additionalData;
+        try {
+            additionalData = template(ADDITIONAL_DATA_FIELD_TEMPLATE);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        long range = additionalData.ranges[TERMINAL_LABEL];
+        if (range == 0) {
+            return null;
+        }
+
+        int start = start(range);
+        int end = end(range);
+        if (end - start < 4 || !isDigit(payload.charAt(end - 2)) || !isDigit(payload.charAt(end - 1))) {
+            return null;
+        }
+
+        int length = twoDigits(payload, end - 2);
+        if (payload.charAt(end - 4) != '0' || payload.charAt(end - 3) != '0' || length != end - 4 - start) {
+            return null;
+        }
+
+        return payload.subSequence(start, start + length).toString();
+    }
+
+    private static boolean isTemplate(int tag) {
+        return (tag >= 26 && tag <= 51) || tag == ADDITIONAL_DATA_FIELD_TEMPLATE;
+    }
+
+    private static int twoDigits(CharSequence payload, int index) {
+        char tens = payload.charAt(index);
+        char ones = payload.charAt(index + 1);
+        if (!isDigit(tens) || !isDigit(ones)) {
+            throw new IllegalArgumentException(INVALID_FORMAT);
+        }
+
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int start(long range) {
+        return (int) (range >>> 32);
+    }
+
+    private static int end(long range) {
+        return (int) range;
+    }
+}
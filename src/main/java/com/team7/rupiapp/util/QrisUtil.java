@@ -1,8 +1,9 @@
 package com.team7.rupiapp.util;
 
-import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
@@ -12,9 +13,66 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 public class QrisUtil {
+    private static final int CRC_POLYNOMIAL = 0x1021;
+    private static final int CRC_INITIAL = 0xFFFF;
+    private static final int[] CRC_TABLE = new int[256];
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    static {
+        for (int i = 0; i < CRC_TABLE.length; i++) {
+            int crc = i << 8;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ CRC_POLYNOMIAL : crc << 1;
+            }
+            CRC_TABLE[i] = crc & 0xFFFF;
+        }
+    }
+
     private QrisUtil() {
     }
 
+    /*
+     * CRC-16/CCITT-FALSE (poly 0x1021, init 0xFFFF) over the UTF-8 bytes of
+     * data[start, end), as required for QRIS tag 63.
+     */
+    public static int crc16(CharSequence data, int start, int end) {
+        int crc = CRC_INITIAL;
+
+        for (int i = start; i < end; i++) {
+            char c = data.charAt(i);
+
+            if (c < 0x80) {
+                crc = updateCrc(crc, c);
+            } else if (c < 0x800) {
+                crc = updateCrc(crc, 0xC0 | (c >> 6));
+                crc = updateCrc(crc, 0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(data.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, data.charAt(++i));
+                crc = updateCrc(crc, 0xF0 | (codePoint >> 18));
+                crc = updateCrc(crc, 0x80 | ((codePoint >> 12) & 0x3F));
+                crc = updateCrc(crc, 0x80 | ((codePoint >> 6) & 0x3F));
+                crc = updateCrc(crc, 0x80 | (codePoint & 0x3F));
+            } else {
+                crc = updateCrc(crc, 0xE0 | (c >> 12));
+                crc = updateCrc(crc, 0x80 | ((c >> 6) & 0x3F));
+                crc = updateCrc(crc, 0x80 | (c & 0x3F));
+            }
+        }
+
+        return crc;
+    }
+
+    public static void appendCrcHex(StringBuilder sb, int crc) {
+        sb.append(HEX_DIGITS[(crc >> 12) & 0xF])
+                .append(HEX_DIGITS[(crc >> 8) & 0xF])
+                .append(HEX_DIGITS[(crc >> 4) & 0xF])
+                .append(HEX_DIGITS[crc & 0xF]);
+    }
+
+    private static int updateCrc(int crc, int b) {
+        return ((crc << 8) ^ CRC_TABLE[((crc >> 8) ^ b) & 0xFF]) & 0xFFFF;
+    }
+
     @Data
     @NoArgsConstructor
     public static class BERTLV {
@@ -70,79 +128,160 @@ public class QrisUtil {
         private List<CommonDataTemplate> commonDataTemplates = new ArrayList<>();
 
         public String generatePayload() {
-            StringBuilder s = new StringBuilder();
-            if (dataPayloadFormatIndicator != null && !dataPayloadFormatIndicator.isEmpty()) {
-                s.append(format("85", toHex(dataPayloadFormatIndicator)));
-            } else {
+            PayloadBuffer buffer = new PayloadBuffer();
+            writePayload(buffer);
+            return buffer.toBase64();
+        }
+
+        /*
+         * Writes the BER-TLV payload straight into the given buffer. Template
+         * lengths are patched in once their content is written, so no nested
+         * strings or hex round trips are needed.
+         */
+        public void writePayload(PayloadBuffer out) {
+            if (dataPayloadFormatIndicator == null || dataPayloadFormatIndicator.isEmpty()) {
                 throw new IllegalArgumentException("Payload Format Indicator is required");
             }
 
+            out.writeText(0x85, dataPayloadFormatIndicator);
+
             for (ApplicationTemplate t : applicationTemplates) {
-                StringBuilder template = new StringBuilder(formattingTemplate(t.getBertlv()));
+                int template = out.beginTemplate(0x61);
+                writeTemplate(out, t.getBertlv());
                 for (ApplicationSpecificTransparentTemplate tt : t.getApplicationSpecificTransparentTemplates()) {
-                    String ttemplate = formattingTemplate(tt.getBertlv());
-                    template.append(format("63", ttemplate));
+                    int transparentTemplate = out.beginTemplate(0x63);
+                    writeTemplate(out, tt.getBertlv());
+                    out.endTemplate(transparentTemplate);
                 }
-                s.append(format("61", template.toString()));
+                out.endTemplate(template);
             }
             for (CommonDataTemplate t : commonDataTemplates) {
-                StringBuilder template = new StringBuilder(formattingTemplate(t.getBertlv()));
+                int template = out.beginTemplate(0x62);
+                writeTemplate(out, t.getBertlv());
                 for (CommonDataTransparentTemplate tt : t.getCommonDataTransparentTemplates()) {
-                    String ttemplate = formattingTemplate(tt.getBertlv());
-                    template.append(format("64", ttemplate));
+                    int transparentTemplate = out.beginTemplate(0x64);
+                    writeTemplate(out, tt.getBertlv());
+                    out.endTemplate(transparentTemplate);
                 }
-                s.append(format("62", template.toString()));
+                out.endTemplate(template);
             }
+        }
 
-            int len = s.length();
-            byte[] data = new byte[len / 2];
-            for (int i = 0; i < len; i += 2) {
-                data[i / 2] = (byte) ((Character.digit(s.charAt(i), 16) << 4)
-                        + Character.digit(s.charAt(i + 1), 16));
+        private void writeTemplate(PayloadBuffer out, BERTLV tlv) {
+            writeIfNotNull(out, 0x4F, tlv.getDataApplicationDefinitionFileName());
+            writeIfNotNull(out, 0x50, tlv.getDataApplicationLabel());
+            writeIfNotNull(out, 0x57, tlv.getDataTrack2EquivalentData());
+            writeIfNotNull(out, 0x5A, tlv.getDataApplicationPAN());
+            writeIfNotNull(out, 0x5F20, tlv.getDataCardholderName());
+            writeIfNotNull(out, 0x5F2D, tlv.getDataLanguagePreference());
+            writeIfNotNull(out, 0x5F50, tlv.getDataIssuerURL());
+            writeIfNotNull(out, 0x9F08, tlv.getDataApplicationVersionNumber());
+            writeIfNotNull(out, 0x9F10, tlv.getDataIssuerApplicationData());
+            writeIfNotNull(out, 0x9F19, tlv.getDataTokenRequestorID());
+            writeIfNotNull(out, 0x9F24, tlv.getDataPaymentAccountReference());
+            writeIfNotNull(out, 0x9F25, tlv.getDataLast4DigitsOfPAN());
+            writeIfNotNull(out, 0x9F26, tlv.getDataApplicationCryptogram());
+            writeIfNotNull(out, 0x9F36, tlv.getDataApplicationTransactionCounter());
+            writeIfNotNull(out, 0x9F37, tlv.getDataUnpredictableNumber());
+            writeIfNotNull(out, 0x9F4E, tlv.getDataTransactionId());
+        }
+
+        private void writeIfNotNull(PayloadBuffer out, int tag, String value) {
+            if (value != null) {
+                out.writeText(tag, value);
             }
+        }
+    }
 
-            byte[] decoded = data;
-            return Base64.getEncoder().encodeToString(decoded);
+    /*
+     * Growable byte buffer for CPM payloads. Reuse one per thread with reset()
+     * to avoid allocating a new array for every generated code.
+     */
+    public static final class PayloadBuffer {
+        private byte[] bytes;
+        private int size;
+
+        public PayloadBuffer() {
+            this(128);
         }
 
-        private String format(String id, String value) {
-            int length = value.length() / 2;
-            String lengthStr = String.format("%02X", length);
-            return id + lengthStr + value;
+        public PayloadBuffer(int initialCapacity) {
+            this.bytes = new byte[initialCapacity];
         }
 
-        private String toHex(String input) {
-            return String.format("%X", new BigInteger(1, input.getBytes(StandardCharsets.UTF_8)));
+        public void reset() {
+            size = 0;
         }
 
-        private String formattingTemplate(BERTLV tlv) {
-            StringBuilder template = new StringBuilder();
+        public int size() {
+            return size;
+        }
 
-            appendIfNotNull(template, "4F", tlv.getDataApplicationDefinitionFileName());
-            appendIfNotNull(template, "50", tlv.getDataApplicationLabel());
-            appendIfNotNull(template, "57", tlv.getDataTrack2EquivalentData());
-            appendIfNotNull(template, "5A", tlv.getDataApplicationPAN());
-            appendIfNotNull(template, "5F20", tlv.getDataCardholderName());
-            appendIfNotNull(template, "5F2D", tlv.getDataLanguagePreference());
-            appendIfNotNull(template, "5F50", tlv.getDataIssuerURL());
-            appendIfNotNull(template, "9F08", tlv.getDataApplicationVersionNumber());
-            appendIfNotNull(template, "9F10", tlv.getDataIssuerApplicationData());
-            appendIfNotNull(template, "9F19", tlv.getDataTokenRequestorID());
-            appendIfNotNull(template, "9F24", tlv.getDataPaymentAccountReference());
-            appendIfNotNull(template, "9F25", tlv.getDataLast4DigitsOfPAN());
-            appendIfNotNull(template, "9F26", tlv.getDataApplicationCryptogram());
-            appendIfNotNull(template, "9F36", tlv.getDataApplicationTransactionCounter());
-            appendIfNotNull(template, "9F37", tlv.getDataUnpredictableNumber());
-            appendIfNotNull(template, "9F4E", tlv.getDataTransactionId());
+        public byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
 
-            return template.toString();
+        public String toBase64() {
+            ByteBuffer encoded = Base64.getEncoder().encode(ByteBuffer.wrap(bytes, 0, size));
+            return new String(encoded.array(), 0, encoded.remaining(), StandardCharsets.ISO_8859_1);
         }
 
-        private void appendIfNotNull(StringBuilder sb, String id, String value) {
-            if (value != null) {
-                sb.append(format(id, toHex(value)));
+        private void writeText(int tag, CharSequence value) {
+            int start = beginTemplate(tag);
+            writeUtf8(value);
+            endTemplate(start);
+        }
+
+        /*
+         * Writes the tag and a placeholder length byte and returns where the
+         * value starts; endTemplate fills in the length.
+         */
+        private int beginTemplate(int tag) {
+            if (tag > 0xFF) {
+                writeByte(tag >> 8);
+            }
+            writeByte(tag);
+            writeByte(0);
+            return size;
+        }
+
+        private void endTemplate(int valueStart) {
+            int length = size - valueStart;
+            if (length > 0xFF) {
+                throw new IllegalArgumentException("TLV value is too long");
+            }
+            bytes[valueStart - 1] = (byte) length;
+        }
+
+        private void writeUtf8(CharSequence value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    writeByte(c);
+                } else if (c < 0x800) {
+                    writeByte(0xC0 | (c >> 6));
+                    writeByte(0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    writeByte(0xF0 | (codePoint >> 18));
+                    writeByte(0x80 | ((codePoint >> 12) & 0x3F));
+                    writeByte(0x80 | ((codePoint >> 6) & 0x3F));
+                    writeByte(0x80 | (codePoint & 0x3F));
+                } else {
+                    writeByte(0xE0 | (c >> 12));
+                    writeByte(0x80 | ((c >> 6) & 0x3F));
+                    writeByte(0x80 | (c & 0x3F));
+                }
             }
         }
+
+        private void writeByte(int b) {
+            if (size == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            bytes[size++] = (byte) b;
+        }
     }
 
     @Data
@@ -205,48 +344,51 @@ public class QrisUtil {
         }
 
         public static String encode(MPM mpm) {
-            StringBuilder sb = new StringBuilder();
-            sb.append("00").append(padLeft(mpm.payloadFormatIndicator.length(), 2)).append(mpm.payloadFormatIndicator);
+            StringBuilder sb = new StringBuilder(256);
+            encode(mpm, sb);
+            return sb.toString();
+        }
+
+        /*
+         * Appends the payload, CRC included, to the given builder. Nested
+         * templates report their length up front and write themselves in
+         * place, so callers can reuse one builder (setLength(0)) per thread.
+         */
+        public static void encode(MPM mpm, StringBuilder sb) {
+            int start = sb.length();
+
+            appendField(sb, "00", mpm.payloadFormatIndicator);
 
             if (mpm.pointOfInitiationMethod != null) {
-                sb.append("01").append(padLeft(mpm.pointOfInitiationMethod.length(), 2))
-                        .append(mpm.pointOfInitiationMethod);
+                appendField(sb, "01", mpm.pointOfInitiationMethod);
             }
 
             for (Map.Entry<String, MerchantAccountInformation> entry : mpm.merchantAccountInformationMap.entrySet()) {
-                String info = entry.getValue().toString();
-                sb.append(entry.getKey()).append(padLeft(info.length(), 2)).append(info);
+                MerchantAccountInformation info = entry.getValue();
+                appendHeader(sb, entry.getKey(), info.encodedLength());
+                info.appendTo(sb);
             }
 
-            sb.append("52").append(padLeft(mpm.merchantCategoryCode.length(), 2)).append(mpm.merchantCategoryCode);
-            sb.append("53").append(padLeft(mpm.transactionCurrency.length(), 2)).append(mpm.transactionCurrency);
+            appendField(sb, "52", mpm.merchantCategoryCode);
+            appendField(sb, "53", mpm.transactionCurrency);
             if (mpm.transactionAmount != null) {
-                sb.append("54").append(padLeft(mpm.transactionAmount.length(), 2)).append(mpm.transactionAmount);
+                appendField(sb, "54", mpm.transactionAmount);
             }
-            sb.append("58").append(padLeft(mpm.countryCode.length(), 2)).append(mpm.countryCode);
-            sb.append("59").append(padLeft(mpm.merchantName.length(), 2)).append(mpm.merchantName);
-            sb.append("60").append(padLeft(mpm.merchantCity.length(), 2)).append(mpm.merchantCity);
+            appendField(sb, "58", mpm.countryCode);
+            appendField(sb, "59", mpm.merchantName);
+            appendField(sb, "60", mpm.merchantCity);
 
             if (mpm.postalCode != null) {
-                sb.append("61").append(padLeft(mpm.postalCode.length(), 2)).append(mpm.postalCode);
+                appendField(sb, "61", mpm.postalCode);
             }
 
             if (mpm.additionalDataFieldTemplate != null) {
-                String additionalData = mpm.additionalDataFieldTemplate.toString();
-                sb.append("62").append(padLeft(additionalData.length(), 2)).append(additionalData);
+                appendHeader(sb, "62", mpm.additionalDataFieldTemplate.encodedLength());
+                mpm.additionalDataFieldTemplate.appendTo(sb);
             }
 
-            sb.append("63").append("04").append("CEAB");
-
-            return sb.toString();
-        }
-
-        private static String padLeft(int length, int padLength) {
-            StringBuilder result = new StringBuilder(String.valueOf(length));
-            while (result.length() < padLength) {
-                result.insert(0, "0");
-            }
-            return result.toString();
+            sb.append("63").append("04");
+            appendCrcHex(sb, crc16(sb, start, sb.length()));
         }
     }
 
@@ -266,20 +408,24 @@ public class QrisUtil {
 
         @Override
         public String toString() {
-            StringBuilder sb = new StringBuilder();
-            sb.append("00").append(padLeft(globallyUniqueIdentifier.length(), 2)).append(globallyUniqueIdentifier);
+            StringBuilder sb = new StringBuilder(encodedLength());
+            appendTo(sb);
+            return sb.toString();
+        }
+
+        private int encodedLength() {
+            int length = fieldLength("00", globallyUniqueIdentifier.length());
             for (Map.Entry<String, String> entry : paymentNetworkSpecific.entrySet()) {
-                sb.append(entry.getKey()).append(padLeft(entry.getValue().length(), 2)).append(entry.getValue());
+                length += fieldLength(entry.getKey(), entry.getValue().length());
             }
-            return sb.toString();
+            return length;
         }
 
-        private static String padLeft(int length, int padLength) {
-            String result = String.valueOf(length);
-            while (result.length() < padLength) {
-                result = "0" + result;
+        private void appendTo(StringBuilder sb) {
+            appendField(sb, "00", globallyUniqueIdentifier);
+            for (Map.Entry<String, String> entry : paymentNetworkSpecific.entrySet()) {
+                appendField(sb, entry.getKey(), entry.getValue());
             }
-            return result;
         }
     }
 
@@ -299,22 +445,50 @@ public class QrisUtil {
 
         @Override
         public String toString() {
-            StringBuilder sb = new StringBuilder();
+            StringBuilder sb = new StringBuilder(encodedLength());
+            appendTo(sb);
+            return sb.toString();
+        }
+
+        private int encodedLength() {
+            int length = 0;
             if (referenceLabel != null) {
-                sb.append("05").append(padLeft(referenceLabel.length(), 2)).append(referenceLabel);
+                length += fieldLength("05", referenceLabel.length());
             }
             if (terminalLabel != null) {
-                sb.append("07").append(padLeft(terminalLabel.length(), 2)).append(terminalLabel);
+                length += fieldLength("07", terminalLabel.length());
             }
-            return sb.toString();
+            return length;
         }
 
-        private static String padLeft(int length, int padLength) {
-            String result = String.valueOf(length);
-            while (result.length() < padLength) {
-                result = "0" + result;
+        private void appendTo(StringBuilder sb) {
+            if (referenceLabel != null) {
+                appendField(sb, "05", referenceLabel);
             }
-            return result;
+            if (terminalLabel != null) {
+                appendField(sb, "07", terminalLabel);
+            }
+        }
+    }
+
+    private static void appendField(StringBuilder sb, String id, String value) {
+        appendHeader(sb, id, value.length());
+        sb.append(value);
+    }
+
+    /*
+     * Id followed by the decimal length, zero padded to at least two digits.
+     */
+    private static void appendHeader(StringBuilder sb, String id, int length) {
+        sb.append(id);
+        if (length < 10) {
+            sb.append('0');
         }
+        sb.append(length);
+    }
+
+    private static int fieldLength(String id, int valueLength) {
+        int digits = valueLength < 100 ? 2 : (valueLength < 1000 ? 3 : Integer.toString(valueLength).length());
+        return id.length() + digits + valueLength;
     }
 }
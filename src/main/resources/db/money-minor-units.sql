@@ -0,0 +1,21 @@
+-- Money columns used to be double precision rupiah and are now BIGINT sen
+-- (see Money / MoneyConverter). Hibernate's ddl-auto=update never changes an
+-- existing column type, so convert them here once. Columns that are already
+-- BIGINT, or tables that don't exist yet, are left alone.
+DO $$
+DECLARE
+    target RECORD;
+BEGIN
+    FOR target IN
+        SELECT c.table_name, c.column_name
+        FROM information_schema.columns c
+        WHERE c.table_schema = current_schema()
+          AND (c.table_name, c.column_name) IN (('users', 'balance'), ('mutations', 'amount'),
+                                                ('mutation_rollups', 'total_amount'))
+          AND c.data_type IN ('double precision', 'real', 'numeric')
+    LOOP
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN %I TYPE BIGINT USING CAST(ROUND(%I * 100) AS BIGINT)',
+                       target.table_name, target.column_name, target.column_name);
+    END LOOP;
+END
+$$
@@ -0,0 +1,18 @@
+-- An OTP is now issued with one upsert on (user_id, type) instead of a
+-- synchronized delete + insert. Drop duplicates left by the old code, keeping
+-- the newest, and create the unique index the upsert's ON CONFLICT relies on
+-- here: Hibernate only logs a warning when it can't build it, and every OTP
+-- would then fail.
+DO $$
+BEGIN
+    IF to_regclass('otps') IS NOT NULL THEN
+        DELETE FROM otps older
+        USING otps newer
+        WHERE older.user_id = newer.user_id
+          AND older.type = newer.type
+          AND (older.expiry_date, older.id) < (newer.expiry_date, newer.id);
+
+        CREATE UNIQUE INDEX IF NOT EXISTS ux_otps_user_type ON otps (user_id, type);
+    END IF;
+END
+$$
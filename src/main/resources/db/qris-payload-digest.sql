@@ -0,0 +1,51 @@
+-- qris.payload_digest holds the SHA-256 of the payload and carries the unique
+-- index QrisRepository.findByPayload uses. Add it ahead of Hibernate and fill
+-- it in for rows written before it existed, so they can still be found.
+--
+-- Hibernate only logs a warning when a unique index can't be built, so
+-- duplicate transaction ids or payloads are removed here first, keeping the
+-- newest row of each and marking it used if any of its duplicates was, and
+-- the indexes are created here rather than left to Hibernate. Once both
+-- indexes exist there can be no duplicates, so later startups skip straight
+-- past that part.
+DO $$
+BEGIN
+    IF to_regclass('qris') IS NOT NULL THEN
+        ALTER TABLE qris ADD COLUMN IF NOT EXISTS payload_digest BYTEA;
+
+        UPDATE qris
+        SET payload_digest = sha256(convert_to(payload, 'UTF8'))
+        WHERE payload_digest IS NULL
+          AND payload IS NOT NULL;
+
+        IF to_regclass('ux_qris_payload_digest') IS NULL OR to_regclass('ux_qris_transaction_id') IS NULL THEN
+            UPDATE qris kept
+            SET used = true
+            WHERE NOT kept.used
+              AND EXISTS (SELECT 1 FROM qris other
+                          WHERE other.transaction_id = kept.transaction_id
+                            AND other.used);
+
+            DELETE FROM qris older
+            USING qris newer
+            WHERE older.transaction_id = newer.transaction_id
+              AND (older.expired_at, older.id) < (newer.expired_at, newer.id);
+
+            UPDATE qris kept
+            SET used = true
+            WHERE NOT kept.used
+              AND EXISTS (SELECT 1 FROM qris other
+                          WHERE other.payload_digest = kept.payload_digest
+                            AND other.used);
+
+            DELETE FROM qris older
+            USING qris newer
+            WHERE older.payload_digest = newer.payload_digest
+              AND (older.expired_at, older.id) < (newer.expired_at, newer.id);
+
+            CREATE UNIQUE INDEX IF NOT EXISTS ux_qris_transaction_id ON qris (transaction_id);
+            CREATE UNIQUE INDEX IF NOT EXISTS ux_qris_payload_digest ON qris (payload_digest);
+        END IF;
+    END IF;
+END
+$$
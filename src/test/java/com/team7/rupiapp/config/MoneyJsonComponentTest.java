@@ -0,0 +1,60 @@
+package com.team7.rupiapp.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.team7.rupiapp.model.Money;
+
+class MoneyJsonComponentTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new SimpleModule()
+            .addSerializer(Money.class, new MoneyJsonComponent.Serializer())
+            .addDeserializer(Money.class, new MoneyJsonComponent.Deserializer()));
+
+    @Test
+    void writesAmountsAsPlainNumbers() throws Exception {
+        assertEquals("{\"amount\":15000}", objectMapper.writeValueAsString(new Amount(Money.ofRupiah(15000))));
+        assertEquals("{\"amount\":15000.5}", objectMapper.writeValueAsString(new Amount(Money.parse("15000.50"))));
+        assertEquals("{\"amount\":-0.05}", objectMapper.writeValueAsString(new Amount(Money.ofMinorUnits(-5))));
+        assertEquals("{\"amount\":null}", objectMapper.writeValueAsString(new Amount(null)));
+    }
+
+    @Test
+    void readsNumbersAndNumericStrings() throws Exception {
+        assertEquals(Money.ofMinorUnits(1500050), read("{\"amount\":15000.5}"));
+        assertEquals(Money.ofRupiah(15000), read("{\"amount\":15000}"));
+        assertEquals(Money.ofMinorUnits(1500050), read("{\"amount\":\"15000.50\"}"));
+        assertEquals(Money.ofMinorUnits(-250), read("{\"amount\":-2.5}"));
+    }
+
+    @Test
+    void roundTripsWithoutLosingSen() throws Exception {
+        Money money = Money.parse("19999.99");
+
+        assertEquals(money, read(objectMapper.writeValueAsString(new Amount(money))));
+    }
+
+    @Test
+    void rejectsMoreThanTwoDecimalsInsteadOfRounding() {
+        assertThrows(InvalidFormatException.class, () -> read("{\"amount\":1.234}"));
+        assertThrows(InvalidFormatException.class, () -> read("{\"amount\":\"1.234\"}"));
+        assertThrows(InvalidFormatException.class, () -> read("{\"amount\":\"abc\"}"));
+    }
+
+    @Test
+    void rejectsNonNumericTokens() {
+        assertThrows(MismatchedInputException.class, () -> read("{\"amount\":true}"));
+    }
+
+    private Money read(String json) throws Exception {
+        return objectMapper.readValue(json, Amount.class).amount();
+    }
+
+    record Amount(Money amount) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.team7.rupiapp.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.team7.rupiapp.exception.ServiceBusyException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NotificationExecutorTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger threads = new AtomicInteger();
+
+    private ThreadPoolExecutor pool;
+    private NotificationExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        // One worker and one queue slot, both taken by the time each test starts
+        pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1), task -> {
+            threads.incrementAndGet();
+            return new Thread(task);
+        });
+        executor = new NotificationExecutor(pool, "whatsapp", meterRegistry);
+
+        executor.execute(this::awaitRelease);
+        executor.execute(this::awaitRelease);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        executor.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void dropsAlertsWhenTheQueueIsFull() {
+        executor.execute(() -> {
+        });
+
+        assertEquals(1.0, rejected("dropped"));
+        assertEquals(0.0, rejected("refused"));
+    }
+
+    @Test
+    void refusesOtpsWhenTheQueueIsFull() {
+        assertThrows(ServiceBusyException.class, () -> executor.executeOrReject(() -> {
+        }));
+
+        assertEquals(0.0, rejected("dropped"));
+        assertEquals(1.0, rejected("refused"));
+    }
+
+    @Test
+    void runsOtpsWhenThereIsRoom() throws InterruptedException {
+        release.countDown();
+        awaitIdle();
+
+        CountDownLatch sent = new CountDownLatch(1);
+        executor.executeOrReject(sent::countDown);
+
+        assertTrue(sent.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void failedSendDoesNotKillTheWorker() throws InterruptedException {
+        release.countDown();
+        awaitIdle();
+
+        executor.executeOrReject(() -> {
+            throw new IllegalStateException("send failed");
+        });
+        awaitIdle();
+
+        CountDownLatch sent = new CountDownLatch(1);
+        executor.executeOrReject(sent::countDown);
+
+        assertTrue(sent.await(5, TimeUnit.SECONDS));
+        assertEquals(1, threads.get());
+    }
+
+    private double rejected(String outcome) {
+        return meterRegistry.get("app.notifications.rejected")
+                .tags("channel", "whatsapp", "outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((pool.getActiveCount() > 0 || !pool.getQueue().isEmpty()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.team7.rupiapp.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/*
+ * db/money-minor-units.sql rewrites existing balances and amounts in place and
+ * can't be undone, so it is run here against double precision columns holding
+ * values that are not exact in binary. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MoneyMinorUnitsMigrationTest {
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS mutation_rollups, mutations, users");
+        jdbcTemplate.execute("CREATE TABLE users (id INTEGER PRIMARY KEY, balance DOUBLE PRECISION)");
+        jdbcTemplate.execute("CREATE TABLE mutations (id INTEGER PRIMARY KEY, amount DOUBLE PRECISION NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE mutation_rollups (id INTEGER PRIMARY KEY, total_amount NUMERIC NOT NULL)");
+    }
+
+    @Test
+    void convertsRupiahToSenRoundingBinaryNoise() {
+        jdbcTemplate.update("INSERT INTO users VALUES (1, 15000.5), (2, 19999.99), (3, 0.1), (4, -42.42), (5, NULL)");
+        jdbcTemplate.update("INSERT INTO mutations VALUES (1, 0.3), (2, 1234567.89)");
+        jdbcTemplate.update("INSERT INTO mutation_rollups VALUES (1, 25000.75)");
+
+        migrate();
+
+        assertEquals("bigint", columnType("users", "balance"));
+        assertEquals("bigint", columnType("mutations", "amount"));
+        assertEquals("bigint", columnType("mutation_rollups", "total_amount"));
+
+        assertEquals(List.of(1500050L, 1999999L, 10L, -4242L),
+                jdbcTemplate.queryForList("SELECT balance FROM users WHERE id < 5 ORDER BY id", Long.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE id = 5 AND balance IS NOT NULL",
+                Integer.class));
+        assertEquals(List.of(30L, 123456789L),
+                jdbcTemplate.queryForList("SELECT amount FROM mutations ORDER BY id", Long.class));
+        assertEquals(2500075L, jdbcTemplate.queryForObject("SELECT total_amount FROM mutation_rollups", Long.class));
+    }
+
+    @Test
+    void runningAgainLeavesConvertedColumnsAlone() {
+        jdbcTemplate.update("INSERT INTO users VALUES (1, 15000.5)");
+
+        migrate();
+        migrate();
+
+        assertEquals(1500050L, jdbcTemplate.queryForObject("SELECT balance FROM users", Long.class));
+    }
+
+    @Test
+    void skipsTablesThatDontExistYet() {
+        jdbcTemplate.execute("DROP TABLE mutations, mutation_rollups");
+        jdbcTemplate.update("INSERT INTO users VALUES (1, 0.01)");
+
+        migrate();
+
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT balance FROM users", Long.class));
+    }
+
+    private void migrate() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                new ClassPathResource("db/money-minor-units.sql"));
+        populator.setSeparator("^^^ END OF SCRIPT ^^^");
+        populator.execute(dataSource);
+    }
+
+    private String columnType(String table, String column) {
+        return jdbcTemplate.queryForObject("SELECT data_type FROM information_schema.columns "
+                + "WHERE table_schema = current_schema() AND table_name = ? AND column_name = ?",
+                String.class, table, column);
+    }
+}
@@ -0,0 +1,107 @@
+package com.team7.rupiapp.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MoneyTest {
+    @ParameterizedTest
+    @CsvSource({
+            "15000, 1500000",
+            "15000.5, 1500050",
+            "15000.50, 1500050",
+            "1.230, 123",
+            "0.01, 1",
+            "0, 0",
+            "-2.5, -250",
+            "-0.05, -5"
+    })
+    void parsesIntoMinorUnits(String amount, long minorUnits) {
+        assertEquals(minorUnits, Money.parse(amount).getMinorUnits());
+    }
+
+    @Test
+    void parseTrimsWhitespace() {
+        assertEquals(Money.ofMinorUnits(1), Money.parse(" 0.01 "));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "1.234", "0.001", "abc", "", "92233720368547758.08" })
+    void rejectsAmountsThatDontFitWithoutRounding(String amount) {
+        assertThrows(NumberFormatException.class, () -> Money.parse(amount));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1500000, 15000",
+            "1500050, 15000.5",
+            "1500055, 15000.55",
+            "1, 0.01",
+            "0, 0",
+            "-200, -2",
+            "-250, -2.5",
+            "-5, -0.05"
+    })
+    void formatsAsPlainDecimalWithoutTrailingZeros(long minorUnits, String plain) {
+        Money money = Money.ofMinorUnits(minorUnits);
+
+        assertEquals(plain, money.toPlainString());
+        assertEquals(plain, money.toString());
+    }
+
+    @Test
+    void bigDecimalKeepsTwoDecimals() {
+        assertEquals(new BigDecimal("15000.50"), Money.ofMinorUnits(1500050).toBigDecimal());
+        assertEquals(Money.SCALE, Money.ofRupiah(7).toBigDecimal().scale());
+    }
+
+    @Test
+    void ofBigDecimalAcceptsExtraZerosOnly() {
+        assertEquals(Money.ofMinorUnits(1500050), Money.of(new BigDecimal("15000.5000")));
+        assertThrows(NumberFormatException.class, () -> Money.of(new BigDecimal("15000.505")));
+    }
+
+    @Test
+    void arithmeticIsExactAndChecked() {
+        Money balance = Money.parse("0.1").plus(Money.parse("0.2"));
+
+        assertEquals(Money.parse("0.3"), balance);
+        assertEquals(Money.parse("-0.2"), Money.parse("0.1").minus(Money.parse("0.3")));
+        assertThrows(ArithmeticException.class, () -> Money.ofRupiah(Long.MAX_VALUE));
+        assertThrows(ArithmeticException.class,
+                () -> Money.ofMinorUnits(Long.MAX_VALUE).plus(Money.ofMinorUnits(1)));
+    }
+
+    @Test
+    void comparesByMinorUnits() {
+        assertTrue(Money.parse("9.99").isLessThan(Money.ofRupiah(10)));
+        assertTrue(Money.ofMinorUnits(1).isPositive());
+        assertTrue(Money.parse("-1").compareTo(Money.ZERO) < 0);
+        assertEquals(Money.ofRupiah(15000).hashCode(), Money.parse("15000.00").hashCode());
+        assertSame(Money.ZERO, Money.ofMinorUnits(0));
+    }
+
+    @Test
+    void converterRoundTripsThroughMinorUnits() {
+        MoneyConverter converter = new MoneyConverter();
+
+        for (Money money : new Money[] { Money.parse("15000.5"), Money.parse("-2.5"), Money.ZERO }) {
+            Long column = converter.convertToDatabaseColumn(money);
+
+            assertEquals(money.getMinorUnits(), column);
+            assertEquals(money, converter.convertToEntityAttribute(column));
+        }
+
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
@@ -0,0 +1,152 @@
+package com.team7.rupiapp.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/*
+ * db/qris-payload-digest.sql runs against a qris table as it was before the
+ * digest column and the unique indexes existed, with duplicates in it, and
+ * must leave both indexes in place. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class QrisPayloadDigestMigrationTest {
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // One connection, so the planner settings in the EXPLAIN test apply
+        dataSource = new SingleConnectionDataSource(postgres.getJdbcUrl(), postgres.getUsername(),
+                postgres.getPassword(), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS qris");
+        jdbcTemplate.execute("CREATE TABLE qris (id UUID PRIMARY KEY, user_id UUID, type SMALLINT NOT NULL, "
+                + "transaction_id VARCHAR(255) NOT NULL, payload VARCHAR(255), used BOOLEAN NOT NULL, "
+                + "expired_at TIMESTAMP(6) NOT NULL)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void fillsInTheDigestOfExistingRows() {
+        insert("00000000-0000-0000-0000-000000000001", "tx-1", "payload-1", false, "2024-08-20 10:00");
+        insert("00000000-0000-0000-0000-000000000002", "tx-2", null, false, "2024-08-20 10:00");
+
+        migrate();
+
+        assertArrayEquals(Qris.digest("payload-1"), jdbcTemplate.queryForObject(
+                "SELECT payload_digest FROM qris WHERE transaction_id = 'tx-1'", byte[].class));
+        assertNull(jdbcTemplate.queryForObject(
+                "SELECT payload_digest FROM qris WHERE transaction_id = 'tx-2'", byte[].class));
+    }
+
+    @Test
+    void keepsTheNewestDuplicateAndCarriesOverUsed() {
+        insert("00000000-0000-0000-0000-000000000001", "tx-1", "payload-1", true, "2024-08-20 10:00");
+        insert("00000000-0000-0000-0000-000000000002", "tx-1", "payload-1b", false, "2024-08-20 10:05");
+        insert("00000000-0000-0000-0000-000000000003", "tx-2", "payload-2", false, "2024-08-20 10:00");
+        insert("00000000-0000-0000-0000-000000000004", "tx-3", "payload-2", false, "2024-08-20 10:10");
+        insert("00000000-0000-0000-0000-000000000005", "tx-4", "payload-4", false, "2024-08-20 10:00");
+
+        migrate();
+
+        assertEquals(List.of("tx-1", "tx-3", "tx-4"),
+                jdbcTemplate.queryForList("SELECT transaction_id FROM qris ORDER BY transaction_id", String.class));
+        assertEquals(Boolean.TRUE, jdbcTemplate.queryForObject(
+                "SELECT used FROM qris WHERE transaction_id = 'tx-1'", Boolean.class));
+        assertEquals("payload-1b", jdbcTemplate.queryForObject(
+                "SELECT payload FROM qris WHERE transaction_id = 'tx-1'", String.class));
+        assertEquals(Boolean.FALSE, jdbcTemplate.queryForObject(
+                "SELECT used FROM qris WHERE transaction_id = 'tx-3'", Boolean.class));
+    }
+
+    @Test
+    void createsTheUniqueIndexes() {
+        insert("00000000-0000-0000-0000-000000000001", "tx-1", "payload-1", false, "2024-08-20 10:00");
+        insert("00000000-0000-0000-0000-000000000002", "tx-1", "payload-1", false, "2024-08-20 10:05");
+
+        migrate();
+        migrate();
+
+        assertEquals(List.of("ux_qris_payload_digest", "ux_qris_transaction_id"), jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE tablename = 'qris' AND indexdef LIKE 'CREATE UNIQUE INDEX %' "
+                        + "AND indexname LIKE 'ux_%' ORDER BY indexname",
+                String.class));
+    }
+
+    @Test
+    void recreatesAnIndexThatWentMissing() {
+        insert("00000000-0000-0000-0000-000000000001", "tx-1", "payload-1", false, "2024-08-20 10:00");
+        migrate();
+
+        jdbcTemplate.execute("DROP INDEX ux_qris_transaction_id");
+        insert("00000000-0000-0000-0000-000000000002", "tx-1", "payload-2", false, "2024-08-20 10:05");
+        migrate();
+
+        assertEquals(List.of("payload-2"),
+                jdbcTemplate.queryForList("SELECT payload FROM qris WHERE transaction_id = 'tx-1'", String.class));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_indexes WHERE tablename = 'qris' AND indexname LIKE 'ux_%'", Integer.class));
+    }
+
+    @Test
+    void lookupsUseTheUniqueIndexes() {
+        insert("00000000-0000-0000-0000-000000000001", "tx-1", "payload-1", false, "2024-08-20 10:00");
+        migrate();
+
+        // A handful of rows is cheaper to scan, so rule that out to see which index is picked
+        jdbcTemplate.execute("SET enable_seqscan = off");
+        jdbcTemplate.execute("ANALYZE qris");
+
+        assertTrue(plan("SELECT * FROM qris WHERE transaction_id = 'tx-1'").contains("ux_qris_transaction_id"));
+        assertTrue(plan("SELECT * FROM qris WHERE payload_digest = sha256(convert_to('payload-1', 'UTF8'))")
+                .contains("ux_qris_payload_digest"));
+    }
+
+    @Test
+    void skipsTheTableWhenItDoesntExistYet() {
+        jdbcTemplate.execute("DROP TABLE qris");
+
+        migrate();
+
+        assertNull(jdbcTemplate.queryForObject("SELECT to_regclass('qris')::text", String.class));
+    }
+
+    private void insert(String id, String transactionId, String payload, boolean used, String expiredAt) {
+        jdbcTemplate.update("INSERT INTO qris (id, type, transaction_id, payload, used, expired_at) "
+                + "VALUES (?::uuid, 0, ?, ?, ?, ?::timestamp)", id, transactionId, payload, used, expiredAt);
+    }
+
+    private String plan(String query) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + query, String.class));
+    }
+
+    private void migrate() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                new ClassPathResource("db/qris-payload-digest.sql"));
+        populator.setSeparator("^^^ END OF SCRIPT ^^^");
+        populator.execute(dataSource);
+    }
+}
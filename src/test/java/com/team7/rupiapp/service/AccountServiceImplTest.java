@@ -0,0 +1,149 @@
+package com.team7.rupiapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.team7.rupiapp.dto.account.MutationCursorPageDto;
+import com.team7.rupiapp.dto.account.MutationDto;
+import com.team7.rupiapp.dto.account.MutationResponseDto;
+import com.team7.rupiapp.enums.MutationType;
+import com.team7.rupiapp.enums.TransactionType;
+import com.team7.rupiapp.exception.BadRequestException;
+import com.team7.rupiapp.model.AuthenticatedUser;
+import com.team7.rupiapp.model.Money;
+import com.team7.rupiapp.model.Mutation;
+import com.team7.rupiapp.repository.MutationRepository;
+import com.team7.rupiapp.repository.MutationRollupRepository;
+import com.team7.rupiapp.repository.MutationSpecification;
+
+@ExtendWith(MockitoExtension.class)
+class AccountServiceImplTest {
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Mock
+    private MutationRepository mutationRepository;
+
+    @Mock
+    private MutationRollupRepository mutationRollupRepository;
+
+    @Mock
+    private AuthenticatedUserService authenticatedUserService;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    private final Principal principal = () -> "user";
+
+    private AccountServiceImpl accountService;
+
+    @BeforeEach
+    void setUp() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+
+        accountService = new AccountServiceImpl(modelMapper, mutationRepository, mutationRollupRepository,
+                authenticatedUserService, currentUserService);
+
+        when(authenticatedUserService.resolve(principal))
+                .thenReturn(new AuthenticatedUser(USER_ID, "user", true, false, true, true));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void nextCursorFetchesTheFollowingPage() {
+        Mutation first = mutation(LocalDateTime.of(2024, 8, 20, 10, 15, 30, 123_000_000));
+        Mutation second = mutation(LocalDateTime.of(2024, 8, 20, 9, 30));
+        Mutation third = mutation(LocalDateTime.of(2024, 8, 19, 8, 0, 5));
+
+        when(mutationRepository.findBy(any(Specification.class), any()))
+                .thenReturn(List.of(first, second, third))
+                .thenReturn(List.of(third));
+
+        try (MockedStatic<MutationSpecification> specifications = mockStatic(MutationSpecification.class,
+                CALLS_REAL_METHODS)) {
+            MutationCursorPageDto firstPage = accountService.getMutations(principal, new MutationDto(), null, 2);
+
+            assertTrue(firstPage.isHasNext());
+            assertNotNull(firstPage.getNextCursor());
+            assertEquals(List.of(first.getId(), second.getId()), ids(firstPage));
+
+            MutationCursorPageDto secondPage = accountService.getMutations(principal, new MutationDto(),
+                    firstPage.getNextCursor(), 2);
+
+            assertFalse(secondPage.isHasNext());
+            assertNull(secondPage.getNextCursor());
+            assertEquals(List.of(third.getId()), ids(secondPage));
+
+            specifications.verify(() -> MutationSpecification.after(second.getCreatedAt(), second.getId()));
+        }
+    }
+
+    @Test
+    void rejectsCursorThatIsNotBase64() {
+        MutationDto mutationDto = new MutationDto();
+
+        assertThrows(BadRequestException.class,
+                () -> accountService.getMutations(principal, mutationDto, "not a cursor!", 2));
+    }
+
+    @Test
+    void rejectsCursorWithoutSeparator() {
+        MutationDto mutationDto = new MutationDto();
+        String cursor = encode("2024-08-20T09:30");
+
+        assertThrows(BadRequestException.class,
+                () -> accountService.getMutations(principal, mutationDto, cursor, 2));
+    }
+
+    @Test
+    void rejectsCursorWithInvalidId() {
+        MutationDto mutationDto = new MutationDto();
+        String cursor = encode("2024-08-20T09:30|not-a-uuid");
+
+        assertThrows(BadRequestException.class,
+                () -> accountService.getMutations(principal, mutationDto, cursor, 2));
+    }
+
+    private static Mutation mutation(LocalDateTime createdAt) {
+        Mutation mutation = new Mutation();
+        mutation.setId(UUID.randomUUID());
+        mutation.setAmount(Money.ofRupiah(15000));
+        mutation.setCreatedAt(createdAt);
+        mutation.setMutationType(MutationType.TRANSFER);
+        mutation.setTransactionType(TransactionType.DEBIT);
+        return mutation;
+    }
+
+    private static List<UUID> ids(MutationCursorPageDto page) {
+        return page.getContent().stream().map(MutationResponseDto::getId).toList();
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
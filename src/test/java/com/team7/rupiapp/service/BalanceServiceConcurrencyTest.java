@@ -0,0 +1,153 @@
+package com.team7.rupiapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.team7.rupiapp.RupiappApplication;
+import com.team7.rupiapp.config.TransactionRetryTemplate;
+import com.team7.rupiapp.exception.BadRequestException;
+import com.team7.rupiapp.model.Money;
+import com.team7.rupiapp.model.User;
+import com.team7.rupiapp.repository.UserRepository;
+
+/*
+ * Runs thousands of transfers in parallel between a handful of accounts
+ * through the same retry template and conditional UPDATEs the transfer
+ * endpoints use. They are submitted as mirrored pairs, A to B right next to
+ * B to A, so opposite transfers on the same two rows keep racing and the
+ * lock ordering has to hold under contention. Skipped when Docker is not
+ * available.
+ *
+ * The nested configuration keeps the slice from bootstrapping through
+ * RupiappApplication, whose @EnableFeignClients needs the Feign
+ * auto-configuration a JPA slice doesn't load.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BalanceServiceConcurrencyTest {
+    private static final int ACCOUNTS = 5;
+    private static final int TRANSFERS = 4_000;
+    private static final int THREADS = 16;
+    private static final Money INITIAL_BALANCE = Money.ofRupiah(100);
+
+    @Configuration
+    @AutoConfigurationPackage(basePackageClasses = RupiappApplication.class)
+    @Import({ BalanceServiceImpl.class, TransactionRetryTemplate.class })
+    static class Config {
+    }
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Autowired
+    private TransactionRetryTemplate transactionRetryTemplate;
+
+    @Test
+    void parallelTransfersNeverOverdrawAndConserveTheTotal() throws Exception {
+        List<User> users = IntStream.range(0, ACCOUNTS).mapToObj(this::createUser).toList();
+
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger declined = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < TRANSFERS / 2; i++) {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int firstIndex = random.nextInt(ACCOUNTS);
+                User first = users.get(firstIndex);
+                User second = users.get((firstIndex + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS);
+
+                futures.add(executor.submit(() -> transfer(start, first, second, completed, declined)));
+                futures.add(executor.submit(() -> transfer(start, second, first, completed, declined)));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(120, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<UUID> ids = users.stream().map(User::getId).toList();
+        List<User> reloaded = userRepository.findAllById(ids);
+
+        long total = reloaded.stream().mapToLong(user -> user.getBalance().getMinorUnits()).sum();
+        assertEquals(ACCOUNTS * INITIAL_BALANCE.getMinorUnits(), total);
+        reloaded.forEach(user -> assertTrue(user.getBalance().getMinorUnits() >= 0,
+                () -> user.getUsername() + " went negative: " + user.getBalance()));
+
+        assertEquals(TRANSFERS, completed.get() + declined.get());
+        assertTrue(completed.get() > 0);
+    }
+
+    private Void transfer(CountDownLatch start, User sender, User receiver, AtomicInteger completed,
+            AtomicInteger declined) throws InterruptedException {
+        start.await();
+
+        Money amount = Money.ofMinorUnits(1 + ThreadLocalRandom.current().nextLong(50_00));
+        try {
+            transactionRetryTemplate.execute(() -> {
+                balanceService.transfer(sender, receiver, amount);
+                return null;
+            });
+            completed.incrementAndGet();
+        } catch (BadRequestException e) {
+            declined.incrementAndGet();
+        }
+
+        return null;
+    }
+
+    private User createUser(int index) {
+        String name = "stress-" + index + "-" + UUID.randomUUID();
+
+        User user = new User();
+        user.setFullName(name);
+        user.setUsername(name);
+        user.setEmail(name + "@example.com");
+        user.setPhone(name);
+        user.setBalance(INITIAL_BALANCE);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,65 @@
+package com.team7.rupiapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.team7.rupiapp.exception.BadRequestException;
+import com.team7.rupiapp.model.Money;
+import com.team7.rupiapp.model.User;
+import com.team7.rupiapp.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceServiceImplTest {
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    void rejectsNegativeTransfers() {
+        BalanceServiceImpl balanceService = new BalanceServiceImpl(userRepository);
+
+        BadRequestException e = assertThrows(BadRequestException.class,
+                () -> balanceService.transfer(user(), user(), Money.ofRupiah(-5000)));
+
+        assertEquals("Amount must be greater than zero", e.getMessage());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void rejectsZeroAndMissingDebits() {
+        BalanceServiceImpl balanceService = new BalanceServiceImpl(userRepository);
+
+        assertThrows(BadRequestException.class, () -> balanceService.debit(user(), Money.ZERO));
+        assertThrows(BadRequestException.class, () -> balanceService.debit(user(), null));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void movesPositiveAmounts() {
+        BalanceServiceImpl balanceService = new BalanceServiceImpl(userRepository);
+        User sender = user();
+        User receiver = user();
+        when(userRepository.debitBalance(sender.getId(), 500_000)).thenReturn(1);
+        when(userRepository.creditBalance(receiver.getId(), 500_000)).thenReturn(1);
+
+        balanceService.transfer(sender, receiver, Money.ofRupiah(5000));
+
+        verify(userRepository).debitBalance(sender.getId(), 500_000);
+        verify(userRepository).creditBalance(receiver.getId(), 500_000);
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        return user;
+    }
+}
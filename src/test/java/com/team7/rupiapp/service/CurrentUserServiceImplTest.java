@@ -0,0 +1,62 @@
+package com.team7.rupiapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.security.Principal;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.team7.rupiapp.model.AuthenticatedUser;
+import com.team7.rupiapp.model.User;
+import com.team7.rupiapp.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentUserServiceImplTest {
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AuthenticatedUserService authenticatedUserService;
+
+    private final Principal principal = () -> "user";
+
+    @Test
+    void loadsTheResolvedUserByIdOncePerRequest() {
+        CurrentUserServiceImpl currentUserService = new CurrentUserServiceImpl(userRepository,
+                authenticatedUserService);
+        User user = new User();
+        user.setId(USER_ID);
+        when(authenticatedUserService.resolve(principal))
+                .thenReturn(new AuthenticatedUser(USER_ID, "user", true, false, true, true));
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+
+        assertSame(user, currentUserService.find(principal).orElseThrow());
+        assertSame(user, currentUserService.find(principal).orElseThrow());
+
+        verify(authenticatedUserService, times(1)).resolve(principal);
+        verify(userRepository, times(1)).findById(USER_ID);
+    }
+
+    @Test
+    void unknownPrincipalIsEmpty() {
+        CurrentUserServiceImpl currentUserService = new CurrentUserServiceImpl(userRepository,
+                authenticatedUserService);
+        when(authenticatedUserService.resolve(principal)).thenThrow(new UsernameNotFoundException("User not found"));
+
+        assertTrue(currentUserService.find(principal).isEmpty());
+        verifyNoInteractions(userRepository);
+    }
+}
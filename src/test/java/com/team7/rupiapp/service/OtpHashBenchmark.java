@@ -0,0 +1,84 @@
+package com.team7.rupiapp.service;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.team7.rupiapp.model.Otp;
+import com.team7.rupiapp.repository.OtpRepository;
+
+/*
+ * The CPU side of an OTP login: issue a code and check it once. Before, both
+ * went through BCrypt (the application's encoder, strength 10); now they go
+ * through OtpService's peppered HMAC. The repository is a stub that always
+ * lets the attempt through, so only hashing is measured. Not a unit test;
+ * run main() with the test classpath, e.g. from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class OtpHashBenchmark {
+    private static final String CODE = "482915";
+    private static final UUID OTP_ID = UUID.randomUUID();
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private OtpServiceImpl otpService;
+
+    @Setup
+    public void setUp() {
+        OtpRepository otpRepository = (OtpRepository) Proxy.newProxyInstance(OtpRepository.class.getClassLoader(),
+                new Class<?>[] { OtpRepository.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("incrementAttempts")) {
+                        return 1;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        otpService = new OtpServiceImpl(otpRepository, passwordEncoder);
+        ReflectionTestUtils.setField(otpService, "pepperValue", "benchmark-pepper");
+        ReflectionTestUtils.setField(otpService, "maxAttempts", 5);
+        ReflectionTestUtils.invokeMethod(otpService, "init");
+    }
+
+    @Benchmark
+    public boolean bcryptIssueAndVerify() {
+        String stored = passwordEncoder.encode(CODE);
+        return passwordEncoder.matches(CODE, stored);
+    }
+
+    @Benchmark
+    public Otp hmacIssueAndVerify() {
+        Otp otp = new Otp();
+        otp.setId(OTP_ID);
+        otp.setCode(otpService.hash(CODE));
+        otpService.verify(otp, CODE);
+        return otp;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OtpHashBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,256 @@
+package com.team7.rupiapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.team7.rupiapp.config.TransactionRetryTemplate;
+import com.team7.rupiapp.dto.transfer.qris.QrisDto;
+import com.team7.rupiapp.dto.transfer.transfer.TransferRequestDto;
+import com.team7.rupiapp.enums.QrisFormat;
+import com.team7.rupiapp.enums.QrisType;
+import com.team7.rupiapp.exception.BadRequestException;
+import com.team7.rupiapp.model.Money;
+import com.team7.rupiapp.model.Qris;
+import com.team7.rupiapp.model.User;
+import com.team7.rupiapp.repository.DestinationRepository;
+import com.team7.rupiapp.repository.MutationRepository;
+import com.team7.rupiapp.repository.QrisRepository;
+import com.team7.rupiapp.repository.UserRepository;
+import com.team7.rupiapp.util.QrisPayload;
+import com.team7.rupiapp.util.QrisUtil;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionServiceImplTest {
+    // Dynamic transfer code for account 0987654321, as createQris issues it
+    private static final String TRANSFER_QRIS = "00020101021240140010ME.RUPIAPP52040000530336054061500005802ID"
+            + "5914Siti Nurhaliza6007Jakarta610512345626605440804DMCTa1b2c3d4-e5f6-4789-abcd-ef0123456789"
+            + "07140987654321001063049883";
+
+    // Static code for account 1234567890, as createQris issues it
+    private static final String STATIC_QRIS = "00020101021140140010ME.RUPIAPP5204000053033605802ID5908John Doe"
+            + "6007Jakarta610512345626605440804DMCT3f0c6d1e-9a4b-4c2e-8d7f-5b6a1c2d3e4f07141234567890001063048C3D";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private QrisRepository qrisRepository;
+
+    @Mock
+    private MutationRepository mutationRepository;
+
+    @Mock
+    private DestinationRepository destinationRepository;
+
+    @Mock
+    private CredentialVerificationService credentialVerificationService;
+
+    @Mock
+    private GenerateService generateService;
+
+    @Mock
+    private MutationRollupService mutationRollupService;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    @Mock
+    private BalanceService balanceService;
+
+    @Mock
+    private TransactionRetryTemplate transactionRetryTemplate;
+
+    @Mock
+    private QrLogoService qrLogoService;
+
+    @Mock
+    private QrImageService qrImageService;
+
+    private final Principal principal = () -> "payer";
+
+    private TransactionServiceImpl transactionService;
+
+    @BeforeEach
+    void setUp() {
+        transactionService = new TransactionServiceImpl(userRepository, qrisRepository, mutationRepository,
+                destinationRepository, credentialVerificationService, new ModelMapper(), generateService,
+                mutationRollupService, currentUserService, balanceService, transactionRetryTemplate,
+                qrLogoService, qrImageService);
+
+        User payer = new User();
+        payer.setAccountNumber("1234567890");
+        payer.setPin("hashed-pin");
+
+        lenient().when(transactionRetryTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        lenient().when(currentUserService.find(principal)).thenReturn(Optional.of(payer));
+        lenient().when(credentialVerificationService.matches("123456", "hashed-pin")).thenReturn(true);
+        lenient().when(userRepository.findByAccountNumber("0987654321")).thenReturn(Optional.of(new User()));
+    }
+
+    @Test
+    void rejectsExpiredTransferCode() {
+        when(qrisRepository.findByTransactionId(transactionId(TRANSFER_QRIS)))
+                .thenReturn(qris(false, false, LocalDateTime.now().minusMinutes(1)));
+
+        assertRejected("QRIS expired", TRANSFER_QRIS);
+    }
+
+    @Test
+    void rejectsTransferCodeWhoseRowWasPurged() {
+        when(qrisRepository.findByTransactionId(transactionId(TRANSFER_QRIS))).thenReturn(null);
+
+        assertRejected("QRIS expired", TRANSFER_QRIS);
+    }
+
+    @Test
+    void rejectsUsedTransferCode() {
+        when(qrisRepository.findByTransactionId(transactionId(TRANSFER_QRIS)))
+                .thenReturn(qris(true, false, LocalDateTime.now().plusHours(1)));
+
+        assertRejected("Transaction already exists", TRANSFER_QRIS);
+    }
+
+    @Test
+    void rejectsMerchantCodeThatWasAlreadyPaid() {
+        String merchantQris = merchantQris();
+        when(qrisRepository.findByTransactionId(transactionId(merchantQris)))
+                .thenReturn(qris(true, false, LocalDateTime.now().minusDays(30)));
+
+        assertRejected("Transaction already exists", merchantQris);
+    }
+
+    @Test
+    void rejectsExpiredMerchantCode() {
+        String merchantQris = merchantQris();
+        when(qrisRepository.findByTransactionId(transactionId(merchantQris)))
+                .thenReturn(qris(false, false, LocalDateTime.now().minusSeconds(1)));
+
+        assertRejected("QRIS expired", merchantQris);
+    }
+
+    @Test
+    void wrongPinIsRejectedBeforeATransactionStarts() {
+        TransferRequestDto requestDto = new TransferRequestDto();
+        requestDto.setDestinationId(UUID.randomUUID());
+        requestDto.setAmount(Money.ofRupiah(15000));
+        requestDto.setPin("654321");
+
+        BadRequestException e = assertThrows(BadRequestException.class,
+                () -> transactionService.createTransaction(requestDto, principal));
+
+        assertEquals("Invalid PIN", e.getMessage());
+        verifyNoInteractions(transactionRetryTemplate, destinationRepository, balanceService);
+    }
+
+    @Test
+    void wrongQrisPinIsRejectedBeforeATransactionStarts() {
+        QrisDto qrisDto = new QrisDto();
+        qrisDto.setQris(TRANSFER_QRIS);
+        qrisDto.setPin("654321");
+
+        BadRequestException e = assertThrows(BadRequestException.class,
+                () -> transactionService.createTransactionQris(principal, qrisDto));
+
+        assertEquals("Invalid PIN", e.getMessage());
+        verifyNoInteractions(transactionRetryTemplate, qrisRepository, balanceService);
+    }
+
+    @Test
+    void pinIsCheckedOnceOutsideTheTransaction() {
+        when(qrisRepository.findByTransactionId(transactionId(TRANSFER_QRIS)))
+                .thenReturn(qris(true, false, LocalDateTime.now().plusHours(1)));
+
+        assertRejected("Transaction already exists", TRANSFER_QRIS);
+
+        InOrder inOrder = inOrder(credentialVerificationService, transactionRetryTemplate);
+        inOrder.verify(credentialVerificationService).matches("123456", "hashed-pin");
+        inOrder.verify(transactionRetryTemplate).execute(any());
+        verify(credentialVerificationService, times(1)).matches(any(), any());
+    }
+
+    @Test
+    void stableStaticCodeIsUpsertedInOneStatement() {
+        ReflectionTestUtils.setField(transactionService, "stableStaticQris", true);
+        when(generateService.generateQrisMPM(any(), any(), isNull())).thenReturn(STATIC_QRIS);
+
+        transactionService.createQris(principal, null, QrisFormat.PAYLOAD);
+
+        verify(qrisRepository).upsertReusable(any(), eq(QrisType.MPM.ordinal()), eq(transactionId(STATIC_QRIS)),
+                eq(STATIC_QRIS), any(), any());
+        verify(qrisRepository, never()).findByTransactionId(any());
+        verify(qrisRepository, never()).save(any());
+    }
+
+    private void assertRejected(String message, String code) {
+        QrisDto qrisDto = new QrisDto();
+        qrisDto.setQris(code);
+        qrisDto.setPin("123456");
+        qrisDto.setAmount("15000");
+
+        BadRequestException e = assertThrows(BadRequestException.class,
+                () -> transactionService.createTransactionQris(principal, qrisDto));
+
+        assertEquals(message, e.getMessage());
+        verifyNoInteractions(balanceService, mutationRepository);
+    }
+
+    private static Qris qris(boolean used, boolean reusable, LocalDateTime expiredAt) {
+        Qris qris = new Qris();
+        qris.setType(QrisType.MPM);
+        qris.setUsed(used);
+        qris.setReusable(reusable);
+        qris.setExpiredAt(expiredAt);
+        return qris;
+    }
+
+    private static String transactionId(String code) {
+        return QrisPayload.parse(code).getTransactionId();
+    }
+
+    private static String merchantQris() {
+        QrisUtil.MPM mpm = new QrisUtil.MPM();
+        mpm.setPayloadFormatIndicator("01");
+        mpm.setPointOfInitiationMethod("12");
+        mpm.setTransactionAmount("25000");
+
+        QrisUtil.MerchantAccountInformation merchantAccountInformation = new QrisUtil.MerchantAccountInformation();
+        merchantAccountInformation.setGloballyUniqueIdentifier("ID.CO.EXAMPLE");
+        mpm.addMerchantAccountInformation("26", merchantAccountInformation);
+        mpm.setMerchantCategoryCode("5812");
+        mpm.setTransactionCurrency("360");
+        mpm.setCountryCode("ID");
+        mpm.setMerchantName("Warung Makan");
+        mpm.setMerchantCity("Bandung");
+
+        QrisUtil.AdditionalDataFieldTemplate additionalData = new QrisUtil.AdditionalDataFieldTemplate();
+        additionalData.setReferenceLabel("INV-0001");
+        mpm.setAdditionalDataFieldTemplate(additionalData);
+        return QrisUtil.MPM.encode(mpm);
+    }
+}
@@ -0,0 +1,124 @@
+package com.team7.rupiapp.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class ExpiringCacheTest {
+    @Test
+    void expiredEntriesAreMisses() throws InterruptedException {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10);
+        cache.put("a", "1", System.currentTimeMillis() + 20);
+        cache.put("b", "2", System.currentTimeMillis() - 1);
+
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+
+        Thread.sleep(40);
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.hitCount());
+        assertEquals(2, cache.missCount());
+    }
+
+    @Test
+    void entriesWithoutExpiryStay() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10);
+        cache.put("a", "1");
+
+        assertEquals("1", cache.get("a"));
+
+        cache.invalidate("a");
+
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    void evictsTheLeastRecentlyReadEntries() throws InterruptedException {
+        ExpiringCache<Integer, String> cache = new ExpiringCache<>(100);
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, "v" + i);
+        }
+
+        Thread.sleep(20);
+        for (int i = 0; i < 50; i++) {
+            assertNotNull(cache.get(i));
+        }
+
+        cache.put(100, "v100");
+
+        assertTrue(cache.size() <= 100);
+        for (int i = 0; i < 50; i++) {
+            assertEquals("v" + i, cache.get(i));
+        }
+        assertEquals("v100", cache.get(100));
+    }
+
+    @Test
+    void boundsTheTotalWeight() throws InterruptedException {
+        ExpiringCache<Integer, String> cache = new ExpiringCache<>(10_000, String::length);
+        cache.put(0, "x".repeat(4_000));
+        for (int i = 1; i <= 10; i++) {
+            cache.put(i, "x".repeat(500));
+        }
+
+        Thread.sleep(20);
+        assertNotNull(cache.get(0));
+        cache.put(21, "x".repeat(3_000));
+
+        assertTrue(cache.weight() <= 10_000, "weight " + cache.weight());
+        assertEquals(4_000, cache.get(0).length());
+        assertEquals(3_000, cache.get(21).length());
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.weight());
+    }
+
+    @Test
+    void staysBoundedUnderConcurrentUse() throws Exception {
+        ExpiringCache<Integer, Integer> cache = new ExpiringCache<>(1_000);
+        AtomicInteger largest = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(pool.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 50_000; i++) {
+                        int key = random.nextInt(5_000);
+                        Integer value = cache.get(key);
+                        if (value == null) {
+                            cache.put(key, key);
+                        } else {
+                            assertEquals(key, value.intValue());
+                        }
+                        largest.accumulateAndGet(cache.size(), Math::max);
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertTrue(cache.size() <= 1_000, "size " + cache.size());
+        // One eviction batch (5%) over, plus puts in flight; nowhere near the 5,000 keys
+        assertTrue(largest.get() <= 1_100, "largest " + largest.get());
+    }
+}
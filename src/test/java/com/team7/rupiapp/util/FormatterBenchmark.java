@@ -0,0 +1,85 @@
+package com.team7.rupiapp.util;
+
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.team7.rupiapp.model.Money;
+
+/*
+ * Formats a 10k-row mutation summary (every row through formatToString and
+ * formatToIDR) with the formatters built per call, as Formatter used to, and
+ * with Formatter as it is now. Not a unit test; run main() with the test
+ * classpath, e.g. from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class FormatterBenchmark {
+    private static final int ROWS = 10_000;
+    private static final Locale LOCALE_ID = Locale.of("id", "ID");
+
+    private Money[] amounts;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        // Mostly whole rupiah, as transfers are, with some amounts in sen
+        amounts = new Money[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            amounts[i] = random.nextInt(10) < 8
+                    ? Money.ofRupiah(random.nextInt(10_000_000))
+                    : Money.ofMinorUnits(random.nextInt(1_000_000_000));
+        }
+    }
+
+    @Benchmark
+    public void formattersPerCall(Blackhole blackhole) {
+        for (Money amount : amounts) {
+            DecimalFormat plain = new DecimalFormat("#");
+            plain.setMaximumFractionDigits(Integer.MAX_VALUE);
+            plain.setGroupingUsed(false);
+            blackhole.consume(plain.format(amount.toBigDecimal()));
+
+            NumberFormat idr = NumberFormat.getCurrencyInstance(LOCALE_ID);
+            blackhole.consume(idr.format(amount.toBigDecimal()));
+        }
+    }
+
+    @Benchmark
+    public void formatter(Blackhole blackhole) {
+        for (Money amount : amounts) {
+            blackhole.consume(Formatter.formatToString(amount));
+            blackhole.consume(Formatter.formatToIDR(amount));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FormatterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
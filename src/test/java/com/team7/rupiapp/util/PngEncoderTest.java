@@ -0,0 +1,116 @@
+package com.team7.rupiapp.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+
+/*
+ * Decodes what PngEncoder writes with ImageIO and checks every pixel against
+ * the module matrix it was rendered from. Widths that are not a multiple of 8
+ * cover the padding bits at the end of each 1-bit row.
+ */
+class PngEncoderTest {
+    private static final int BLACK = 0x000000;
+    private static final int WHITE = 0xFFFFFF;
+
+    @Test
+    void blackAndWhitePngMatchesTheModules() throws IOException {
+        ByteMatrix modules = modules(29, 1);
+
+        for (int size : new int[] { 37, 300, 301, 350 }) {
+            BufferedImage decoded = decode(PngEncoder.encode(QrCodeRenderer.renderBinary(modules, size, size)));
+
+            assertMatches(modules, size, size, decoded);
+        }
+    }
+
+    @Test
+    void rgbPngMatchesTheModules() throws IOException {
+        ByteMatrix modules = modules(33, 2);
+
+        for (int size : new int[] { 41, 250, 257 }) {
+            BufferedImage decoded = decode(PngEncoder.encode(QrCodeRenderer.renderRgb(modules, size, size)));
+
+            assertMatches(modules, size, size, decoded);
+        }
+    }
+
+    @Test
+    void nonSquareOutputIsCentered() throws IOException {
+        ByteMatrix modules = modules(21, 3);
+
+        BufferedImage decoded = decode(PngEncoder.encode(QrCodeRenderer.renderBinary(modules, 203, 150)));
+
+        assertMatches(modules, 203, 150, decoded);
+    }
+
+    @Test
+    void otherImageTypesGoThroughImageIO() throws IOException {
+        ByteMatrix modules = modules(21, 4);
+        BufferedImage rgb = QrCodeRenderer.renderRgb(modules, 120, 120);
+        BufferedImage argb = new BufferedImage(120, 120, BufferedImage.TYPE_INT_ARGB);
+        argb.getGraphics().drawImage(rgb, 0, 0, null);
+
+        BufferedImage decoded = decode(PngEncoder.encode(argb));
+
+        assertMatches(modules, 120, 120, decoded);
+    }
+
+    private static BufferedImage decode(byte[] png) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        assertNotNull(image, "ImageIO could not read the PNG");
+        return image;
+    }
+
+    /*
+     * Expected colour of every pixel from the QRCodeWriter layout: a 4 module
+     * quiet zone, an integer module size and the code centered in the image.
+     */
+    private static void assertMatches(ByteMatrix modules, int width, int height, BufferedImage image) {
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+
+        int qrWidth = modules.getWidth() + QrCodeRenderer.QUIET_ZONE * 2;
+        int qrHeight = modules.getHeight() + QrCodeRenderer.QUIET_ZONE * 2;
+        int multiple = Math.min(Math.max(width, qrWidth) / qrWidth, Math.max(height, qrHeight) / qrHeight);
+        int left = (Math.max(width, qrWidth) - modules.getWidth() * multiple) / 2;
+        int top = (Math.max(height, qrHeight) - modules.getHeight() * multiple) / 2;
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int moduleX = Math.floorDiv(x - left, multiple);
+                int moduleY = Math.floorDiv(y - top, multiple);
+                boolean dark = moduleX >= 0 && moduleX < modules.getWidth() && moduleY >= 0
+                        && moduleY < modules.getHeight() && modules.get(moduleX, moduleY) == 1;
+
+                int expected = dark ? BLACK : WHITE;
+                int actual = image.getRGB(x, y) & 0xFFFFFF;
+                if (actual != expected) {
+                    assertEquals(Integer.toHexString(expected), Integer.toHexString(actual),
+                            "pixel " + x + "," + y + " of " + width + "x" + height);
+                }
+            }
+        }
+    }
+
+    private static ByteMatrix modules(int size, long seed) {
+        Random random = new Random(seed);
+        ByteMatrix modules = new ByteMatrix(size, size);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                modules.set(x, y, random.nextBoolean() ? 1 : 0);
+            }
+        }
+        return modules;
+    }
+}
@@ -0,0 +1,107 @@
+package com.team7.rupiapp.util;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.team7.rupiapp.service.GenerateServiceImpl;
+
+/*
+ * Renders a 300x300 QRIS code to PNG bytes, with and without the logo, the
+ * way generateQRCodeImage used to (QRCodeWriter's pixel BitMatrix, setRGB per
+ * pixel, ImageIO) and the way it does now (module matrix, renderBinary or
+ * renderRgb, PngEncoder). The logo is pre-scaled in both, as QrLogoService
+ * hands it over. main() runs with the GC profiler (-prof gc), so allocation
+ * per operation is reported next to the latency. Not a unit test; run main()
+ * with the test classpath, e.g. from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QrRenderBenchmark {
+    private static final int SIZE = 300;
+    private static final String PAYLOAD = "00020101021240140010ME.RUPIAPP52040000530336054061500005802ID"
+            + "5914Siti Nurhaliza6007Jakarta610512345626605440804DMCTa1b2c3d4-e5f6-4789-abcd-ef0123456789"
+            + "07140987654321001063049883";
+
+    @Param({ "false", "true" })
+    public boolean withLogo;
+
+    private final GenerateServiceImpl generateService = new GenerateServiceImpl(null, null);
+    private BufferedImage logo;
+
+    @Setup
+    public void setUp() {
+        if (!withLogo) {
+            return;
+        }
+
+        logo = new BufferedImage(SIZE / 5, SIZE / 5, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = logo.createGraphics();
+        g.setColor(new Color(0x1E, 0x88, 0xE5));
+        g.fillOval(0, 0, logo.getWidth(), logo.getHeight());
+        g.dispose();
+    }
+
+    @Benchmark
+    public byte[] setRgbAndImageIO() throws WriterException, IOException {
+        BitMatrix bitMatrix = new QRCodeWriter().encode(PAYLOAD, BarcodeFormat.QR_CODE, SIZE, SIZE);
+        BufferedImage qrImage = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_RGB);
+
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                qrImage.setRGB(x, y, bitMatrix.get(x, y) ? 0x000000 : 0xFFFFFF);
+            }
+        }
+
+        if (logo != null) {
+            Graphics2D g = qrImage.createGraphics();
+            g.drawImage(logo, (SIZE - logo.getWidth()) / 2, (SIZE - logo.getHeight()) / 2, null);
+            g.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(qrImage, "png", out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] rendererAndPngEncoder() throws IOException {
+        return PngEncoder.encode(generateService.generateQRCodeImage(PAYLOAD, SIZE, SIZE, logo));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(QrRenderBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
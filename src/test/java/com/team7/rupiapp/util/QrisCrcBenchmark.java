@@ -0,0 +1,77 @@
+package com.team7.rupiapp.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/*
+ * Cost of QrisPayload.hasValidCrc on payloads from 108 to 249 characters,
+ * which should stay well under a microsecond each, on its own and together
+ * with the parse it follows in createTransactionQris. Not a unit test; run
+ * main() with the test classpath, e.g. from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QrisCrcBenchmark {
+    private static final String SHORT_STATIC = "00020101021126370014ID.CO.QRIS.WWW0215ID10200123456785204541153033605802ID"
+            + "5910TOKO ABADI6008SURABAYA6304FD4C";
+
+    private static final String P2P_STATIC = "00020101021140140010ME.RUPIAPP5204000053033605802ID5908John Doe"
+            + "6007Jakarta610512345626605440804DMCT3f0c6d1e-9a4b-4c2e-8d7f-5b6a1c2d3e4f07141234567890001063048C3D";
+
+    @Param({ "108", "161", "177", "219", "249" })
+    public int length;
+
+    private String qris;
+    private QrisPayload payload;
+
+    @Setup
+    public void setUp() {
+        qris = switch (length) {
+            case 108 -> SHORT_STATIC;
+            case 161 -> P2P_STATIC;
+            case 177 -> QrisPayloadBenchmark.P2P_DYNAMIC;
+            case 219 -> QrisPayloadBenchmark.MERCHANT_STATIC;
+            case 249 -> QrisPayloadBenchmark.MERCHANT_DYNAMIC;
+            default -> throw new IllegalArgumentException("No payload of length " + length);
+        };
+
+        payload = QrisPayload.parse(qris);
+        if (qris.length() != length || !payload.hasValidCrc()) {
+            throw new IllegalStateException("Payload of length " + length + " is wrong");
+        }
+    }
+
+    @Benchmark
+    public boolean hasValidCrc() {
+        return payload.hasValidCrc();
+    }
+
+    @Benchmark
+    public boolean parseAndHasValidCrc() {
+        return QrisPayload.parse(qris).hasValidCrc();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(QrisCrcBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,130 @@
+package com.team7.rupiapp.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+/*
+ * Pins the encoders to payloads captured from the string-building encoder
+ * they replaced, so a change to the byte-level writers can't silently alter
+ * what wallets scan. Fixtures live in src/test/resources/golden/qris.
+ */
+class QrisEncoderGoldenTest {
+    private static final String USER_ID = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
+    private static final String CPM_TRANSACTION_ID = "5f2b1c3a-8d4e-4f6a-9b7c-0d1e2f3a4b5c";
+
+    @Test
+    void staticMpmMatchesGolden() throws IOException {
+        QrisUtil.MPM mpm = mpm("John Doe", "1234567890", "3f0c6d1e-9a4b-4c2e-8d7f-5b6a1c2d3e4f", null);
+
+        assertEquals(golden("mpm-static.txt"), QrisUtil.MPM.encode(mpm));
+    }
+
+    @Test
+    void dynamicMpmMatchesGolden() throws IOException {
+        QrisUtil.MPM mpm = mpm("Siti Nurhaliza", "0987654321", "a1b2c3d4-e5f6-4789-abcd-ef0123456789", "150000");
+
+        assertEquals(golden("mpm-dynamic.txt"), QrisUtil.MPM.encode(mpm));
+    }
+
+    @Test
+    void nonAsciiMpmMatchesGolden() throws IOException {
+        QrisUtil.MPM mpm = mpm("Kopi Caf\u00e9 \u00d1usantara", "5555000011", "00000000-0000-4000-8000-000000000001",
+                "2500");
+
+        String encoded = QrisUtil.MPM.encode(mpm);
+
+        assertEquals(golden("mpm-non-ascii.txt"), encoded);
+        assertTrue(QrisPayload.parse(encoded).hasValidCrc());
+    }
+
+    @Test
+    void cpmMatchesGolden() throws IOException {
+        assertEquals(golden("cpm.txt"), cpm("RUPIAPP").generatePayload());
+    }
+
+    @Test
+    void nonAsciiCpmMatchesGolden() throws IOException {
+        assertEquals(golden("cpm-non-ascii.txt"), cpm("Jos\u00e9 \u00d1and\u00fa").generatePayload());
+    }
+
+    @Test
+    void reusedBufferWritesTheSameBytes() throws IOException {
+        QrisUtil.PayloadBuffer buffer = new QrisUtil.PayloadBuffer(8);
+
+        cpm("Jos\u00e9 \u00d1and\u00fa").writePayload(buffer);
+        buffer.reset();
+        cpm("RUPIAPP").writePayload(buffer);
+
+        String golden = golden("cpm.txt");
+        assertEquals(golden, buffer.toBase64());
+        assertArrayEquals(Base64.getDecoder().decode(golden), buffer.toByteArray());
+    }
+
+    private static QrisUtil.MPM mpm(String merchantName, String accountNumber, String transactionId,
+            String amount) {
+        QrisUtil.MPM mpm = new QrisUtil.MPM();
+        mpm.setPayloadFormatIndicator("01");
+        if (amount == null) {
+            mpm.setPointOfInitiationMethod("11");
+        } else {
+            mpm.setPointOfInitiationMethod("12");
+            mpm.setTransactionAmount(amount);
+        }
+
+        QrisUtil.MerchantAccountInformation merchantAccountInformation = new QrisUtil.MerchantAccountInformation();
+        merchantAccountInformation.setGloballyUniqueIdentifier("ME.RUPIAPP");
+        mpm.addMerchantAccountInformation("40", merchantAccountInformation);
+        mpm.setMerchantCategoryCode("0000");
+        mpm.setTransactionCurrency("360");
+        mpm.setCountryCode("ID");
+        mpm.setMerchantName(merchantName);
+        mpm.setMerchantCity("Jakarta");
+        mpm.setPostalCode("12345");
+
+        QrisUtil.AdditionalDataFieldTemplate additionalData = new QrisUtil.AdditionalDataFieldTemplate();
+        additionalData.setReferenceLabel("0804DMCT" + transactionId);
+        additionalData.setTerminalLabel(accountNumber + "00" + accountNumber.length());
+        mpm.setAdditionalDataFieldTemplate(additionalData);
+        return mpm;
+    }
+
+    private static QrisUtil.CPM cpm(String cardholderName) {
+        QrisUtil.CPM cpm = new QrisUtil.CPM();
+        cpm.setDataPayloadFormatIndicator("CPV01");
+
+        QrisUtil.ApplicationTemplate applicationTemplate = new QrisUtil.ApplicationTemplate();
+        applicationTemplate.getBertlv().setDataApplicationDefinitionFileName("A0000000888888");
+        applicationTemplate.getBertlv().setDataApplicationLabel("QRISCPMZ");
+        cpm.getApplicationTemplates().add(applicationTemplate);
+
+        QrisUtil.CommonDataTemplate commonDataTemplate = new QrisUtil.CommonDataTemplate();
+        commonDataTemplate.getBertlv().setDataApplicationPAN("1234567891011121");
+        commonDataTemplate.getBertlv().setDataCardholderName(cardholderName);
+        commonDataTemplate.getBertlv().setDataIssuerURL("RUPIAPP.ME");
+        commonDataTemplate.getBertlv().setDataLanguagePreference("id");
+
+        QrisUtil.CommonDataTransparentTemplate transparentTemplate = new QrisUtil.CommonDataTransparentTemplate();
+        transparentTemplate.getBertlv().setDataIssuerApplicationData("08010Z03000000");
+        transparentTemplate.getBertlv().setDataTokenRequestorID(USER_ID);
+        transparentTemplate.getBertlv().setDataTransactionId(CPM_TRANSACTION_ID);
+        commonDataTemplate.getCommonDataTransparentTemplates().add(transparentTemplate);
+        cpm.getCommonDataTemplates().add(commonDataTemplate);
+        return cpm;
+    }
+
+    private static String golden(String name) throws IOException {
+        try (InputStream in = QrisEncoderGoldenTest.class.getResourceAsStream("/golden/qris/" + name)) {
+            assertNotNull(in, name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).strip();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.team7.rupiapp.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/*
+ * Parses a QRIS payload and reads the fields a payment looks at (point of
+ * initiation, category, amount, merchant, transaction id, account number)
+ * with the substring/HashMap parseQRIS TransactionServiceImpl used to have,
+ * and with QrisPayload. Payloads are a static and a dynamic merchant code as
+ * another bank's app issues them and a RupiApp P2P transfer code. Not a unit
+ * test; run main() with the test classpath, e.g. from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QrisPayloadBenchmark {
+    static final String MERCHANT_STATIC = "00020101021126690021ID.CO.BANKMANDIRI.WWW0118936000080000012345"
+            + "0211710001234560303UMI51440014ID.CO.QRIS.WWW0215ID10200123456780303UMI5204581253033605802ID"
+            + "5922WARUNG MAKAN SEDERHANA6007BANDUNG61054011562070703A01630414F5";
+
+    static final String MERCHANT_DYNAMIC = "00020101021226690021ID.CO.BANKMANDIRI.WWW0118936000080000012345"
+            + "0211710001234560303UMI51440014ID.CO.QRIS.WWW0215ID10200123456780303UMI520458125303360"
+            + "5405250005802ID5922WARUNG MAKAN SEDERHANA6007BANDUNG61054011562280117INV-20240820-0001"
+            + "0703A01630478D6";
+
+    static final String P2P_DYNAMIC = "00020101021240140010ME.RUPIAPP52040000530336054061500005802ID"
+            + "5914Siti Nurhaliza6007Jakarta610512345626605440804DMCTa1b2c3d4-e5f6-4789-abcd-ef0123456789"
+            + "07140987654321001063049883";
+
+    @Param({ "merchantStatic", "merchantDynamic", "p2pDynamic" })
+    public String code;
+
+    private String qris;
+
+    @Setup
+    public void setUp() {
+        qris = switch (code) {
+            case "merchantStatic" -> MERCHANT_STATIC;
+            case "merchantDynamic" -> MERCHANT_DYNAMIC;
+            case "p2pDynamic" -> P2P_DYNAMIC;
+            default -> throw new IllegalArgumentException(code);
+        };
+    }
+
+    @Benchmark
+    public void hashMapParser(Blackhole blackhole) {
+        Map<String, String> qrisMap = parseQRIS(qris);
+
+        blackhole.consume(qrisMap.get("01").equals("11"));
+        blackhole.consume(qrisMap.get("01").equals("12"));
+        blackhole.consume(qrisMap.get("52").equals("0000"));
+        blackhole.consume(qrisMap.get("54"));
+        blackhole.consume(qrisMap.get("59"));
+        blackhole.consume(qrisMap.get("62"));
+
+        if (qrisMap.containsKey("62")) {
+            String transactionId = qrisMap.get("62");
+
+            if (transactionId.contains("00")) {
+                int indexOfLength = transactionId.lastIndexOf("00");
+
+                int length = Integer.parseInt(transactionId.substring(indexOfLength + 2, indexOfLength + 4));
+                if (indexOfLength - length >= 0) {
+                    blackhole.consume(transactionId.substring(indexOfLength - length, indexOfLength));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void qrisPayload(Blackhole blackhole) {
+        QrisPayload payload = QrisPayload.parse(qris);
+
+        blackhole.consume(payload.isStatic());
+        blackhole.consume(payload.isDynamic());
+        blackhole.consume(payload.valueEquals(QrisPayload.MERCHANT_CATEGORY_CODE, "0000"));
+        blackhole.consume(payload.getTransactionAmount());
+        blackhole.consume(payload.getMerchantName());
+        blackhole.consume(payload.getTransactionId());
+        blackhole.consume(payload.getAccountNumber());
+    }
+
+    /*
+     * The parser QrisPayload replaced, as it was in TransactionServiceImpl.
+     */
+    private static Map<String, String> parseQRIS(String qris) {
+        Map<String, String> result = new HashMap<>();
+        int index = 0;
+
+        while (index < qris.length()) {
+            if (index + 4 > qris.length()) {
+                throw new IllegalArgumentException("QRIS format is not suitable");
+            }
+
+            String tag = qris.substring(index, index + 2);
+            index += 2;
+
+            int length;
+            try {
+                length = Integer.parseInt(qris.substring(index, index + 2));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("QRIS format is not suitable", e);
+            }
+            index += 2;
+
+            if (index + length > qris.length()) {
+                throw new IllegalArgumentException("QRIS format is not suitable");
+            }
+
+            String value = qris.substring(index, index + length);
+            index += length;
+
+            result.put(tag, value);
+        }
+
+        return result;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(QrisPayloadBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
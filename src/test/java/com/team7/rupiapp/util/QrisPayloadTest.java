@@ -0,0 +1,161 @@
+package com.team7.rupiapp.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class QrisPayloadTest {
+    private static final String TRANSACTION_ID = "3f0c6d1e-9a4b-4c2e-8d7f-5b6a1c2d3e4f";
+
+    // Static MPM code as GenerateService writes it for account 1234567890
+    private static final String STATIC_QRIS = "00020101021140140010ME.RUPIAPP5204000053033605802ID5908John Doe"
+            + "6007Jakarta610512345626605440804DMCT" + TRANSACTION_ID + "07141234567890001063048C3D";
+
+    private static final String DYNAMIC_QRIS = "00020101021240140010ME.RUPIAPP52040000530336054061500005802ID"
+            + "5914Siti Nurhaliza6007Jakarta610512345626605440804DMCTa1b2c3d4-e5f6-4789-abcd-ef0123456789"
+            + "07140987654321001063049883";
+
+    @Test
+    void readsTopLevelFields() {
+        QrisPayload payload = QrisPayload.parse(STATIC_QRIS);
+
+        assertEquals("01", payload.get(QrisPayload.PAYLOAD_FORMAT_INDICATOR));
+        assertTrue(payload.isStatic());
+        assertFalse(payload.isDynamic());
+        assertEquals("0000", payload.getMerchantCategoryCode());
+        assertEquals("360", payload.get(QrisPayload.TRANSACTION_CURRENCY));
+        assertEquals("ID", payload.get(QrisPayload.COUNTRY_CODE));
+        assertEquals("John Doe", payload.getMerchantName());
+        assertEquals("Jakarta", payload.get(QrisPayload.MERCHANT_CITY));
+        assertEquals("12345", payload.get(QrisPayload.POSTAL_CODE));
+        assertEquals("8C3D", payload.get(QrisPayload.CRC));
+    }
+
+    @Test
+    void absentFieldsAreNull() {
+        QrisPayload payload = QrisPayload.parse(STATIC_QRIS);
+
+        assertFalse(payload.has(QrisPayload.TRANSACTION_AMOUNT));
+        assertNull(payload.getTransactionAmount());
+        assertFalse(payload.valueEquals(QrisPayload.TRANSACTION_AMOUNT, ""));
+        assertNull(payload.template(26));
+    }
+
+    @Test
+    void readsDynamicAmount() {
+        QrisPayload payload = QrisPayload.parse(DYNAMIC_QRIS);
+
+        assertTrue(payload.isDynamic());
+        assertEquals("150000", payload.getTransactionAmount());
+        assertEquals("Siti Nurhaliza", payload.getMerchantName());
+        assertEquals("0987654321", payload.getAccountNumber());
+    }
+
+    @Test
+    void parsesMerchantAccountInformationTemplate() {
+        QrisPayload merchantAccount = QrisPayload.parse(STATIC_QRIS).template(40);
+
+        assertEquals("ME.RUPIAPP", merchantAccount.get(0));
+    }
+
+    @Test
+    void parsesAdditionalDataTemplate() {
+        QrisPayload payload = QrisPayload.parse(STATIC_QRIS);
+        QrisPayload additionalData = payload.template(QrisPayload.ADDITIONAL_DATA_FIELD_TEMPLATE);
+
+        assertEquals("0804DMCT" + TRANSACTION_ID, additionalData.get(QrisPayload.REFERENCE_LABEL));
+        assertEquals("12345678900010", additionalData.get(QrisPayload.TERMINAL_LABEL));
+        assertEquals("05440804DMCT" + TRANSACTION_ID + "07141234567890" + "0010", payload.getTransactionId());
+        assertEquals("1234567890", payload.getAccountNumber());
+        assertSame(additionalData, payload.template(QrisPayload.ADDITIONAL_DATA_FIELD_TEMPLATE));
+    }
+
+    @Test
+    void parsesEveryMerchantAccountTemplateTag() {
+        for (int tag = 26; tag <= 51; tag++) {
+            QrisPayload payload = QrisPayload.parse("000201" + tag + "140010ME.RUPIAPP");
+
+            assertEquals("ME.RUPIAPP", payload.template(tag).get(0));
+        }
+    }
+
+    @Test
+    void rejectsTemplateAccessOnPlainTags() {
+        QrisPayload payload = QrisPayload.parse(STATIC_QRIS);
+
+        assertThrows(IllegalArgumentException.class, () -> payload.template(QrisPayload.MERCHANT_NAME));
+        assertThrows(IllegalArgumentException.class, () -> payload.template(52));
+    }
+
+    @Test
+    void lastOccurrenceOfATagWins() {
+        QrisPayload payload = QrisPayload.parse("000201000202");
+
+        assertEquals("02", payload.get(QrisPayload.PAYLOAD_FORMAT_INDICATOR));
+    }
+
+    @Test
+    void comparesValuesWithoutCopying() {
+        QrisPayload payload = QrisPayload.parse(STATIC_QRIS);
+
+        assertTrue(payload.valueEquals(QrisPayload.MERCHANT_CATEGORY_CODE, "0000"));
+        assertFalse(payload.valueEquals(QrisPayload.MERCHANT_CATEGORY_CODE, "000"));
+        assertFalse(payload.valueEquals(QrisPayload.MERCHANT_CATEGORY_CODE, "0001"));
+    }
+
+    @Test
+    void rejectsLengthPastTheEnd() {
+        assertThrows(IllegalArgumentException.class, () -> QrisPayload.parse("0002015999John Doe"));
+        assertThrows(IllegalArgumentException.class, () -> QrisPayload.parse("00020159"));
+    }
+
+    @Test
+    void rejectsNonNumericTagsAndLengths() {
+        assertThrows(IllegalArgumentException.class, () -> QrisPayload.parse("0002015AB8John Doe"));
+        assertThrows(IllegalArgumentException.class, () -> QrisPayload.parse("AB0201"));
+        assertThrows(IllegalArgumentException.class, () -> QrisPayload.parse("00-101"));
+    }
+
+    @Test
+    void rejectsTruncatedPayloads() {
+        assertThrows(IllegalArgumentException.class, () -> QrisPayload.parse("0"));
+        assertThrows(IllegalArgumentException.class, () -> QrisPayload.parse("000"));
+        assertThrows(IllegalArgumentException.class, () -> QrisPayload.parse("0002010"));
+
+        for (int length = 1; length < STATIC_QRIS.length(); length++) {
+            String truncated = STATIC_QRIS.substring(0, length);
+            try {
+                QrisPayload.parse(truncated).getAccountNumber();
+            } catch (IllegalArgumentException e) {
+                // expected for most cuts; anything else fails the test
+            }
+        }
+    }
+
+    @Test
+    void rejectsMalformedNestedTemplateOnAccess() {
+        // Tag 62 claims a 9 character reference label but holds only one
+        QrisPayload payload = QrisPayload.parse("000201620505099");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> payload.template(QrisPayload.ADDITIONAL_DATA_FIELD_TEMPLATE));
+        assertNull(payload.getAccountNumber());
+    }
+
+    @Test
+    void accountNumberIsNullWhenTerminalLabelDoesntMatchTheLayout() {
+        assertNull(QrisPayload.parse("00020162060702AB").getAccountNumber());
+        assertNull(QrisPayload.parse("000201621107071234599").getAccountNumber());
+        assertNull(QrisPayload.parse("000201").getAccountNumber());
+    }
+
+    @Test
+    void rejectsNull() {
+        assertThrows(IllegalArgumentException.class, () -> QrisPayload.parse(null));
+    }
+}
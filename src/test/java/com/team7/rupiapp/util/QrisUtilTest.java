@@ -0,0 +1,132 @@
+package com.team7.rupiapp.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class QrisUtilTest {
+    // Static MPM code as GenerateService writes it for account 1234567890
+    private static final String STATIC_QRIS = "00020101021140140010ME.RUPIAPP5204000053033605802ID5908John Doe"
+            + "6007Jakarta610512345626605440804DMCT3f0c6d1e-9a4b-4c2e-8d7f-5b6a1c2d3e4f07141234567890001063048C3D";
+
+    @Test
+    void crcMatchesTheCcittFalseCheckValue() {
+        assertEquals(0x29B1, QrisUtil.crc16("123456789", 0, 9));
+    }
+
+    @Test
+    void crcOfNothingIsTheInitialValue() {
+        assertEquals(0xFFFF, QrisUtil.crc16("", 0, 0));
+    }
+
+    @Test
+    void crcCoversOnlyTheGivenRange() {
+        assertEquals(0x29B1, QrisUtil.crc16("xx123456789yy", 2, 11));
+    }
+
+    @Test
+    void crcIsComputedOverUtf8Bytes() {
+        for (String text : new String[] { "Kopi Caf\u00e9", "\u0420\u0443\u043f\u0438", "\u6f22\u5b57",
+                "QR \ud83d\ude00 pay" }) {
+            assertEquals(bitwiseCrc(text.getBytes(StandardCharsets.UTF_8)), QrisUtil.crc16(text, 0, text.length()),
+                    text);
+        }
+    }
+
+    @Test
+    void appendsCrcAsFourUppercaseHexDigits() {
+        StringBuilder sb = new StringBuilder();
+        QrisUtil.appendCrcHex(sb, 0x29B1);
+        QrisUtil.appendCrcHex(sb, 0x000A);
+
+        assertEquals("29B1000A", sb.toString());
+    }
+
+    @Test
+    void knownPayloadHasAValidCrc() {
+        assertTrue(QrisPayload.parse(STATIC_QRIS).hasValidCrc());
+    }
+
+    @Test
+    void encodedPayloadParsesBack() {
+        QrisUtil.MPM mpm = new QrisUtil.MPM();
+        mpm.setPayloadFormatIndicator("01");
+        mpm.setPointOfInitiationMethod("12");
+        mpm.setTransactionAmount("150000");
+
+        QrisUtil.MerchantAccountInformation merchantAccountInformation = new QrisUtil.MerchantAccountInformation();
+        merchantAccountInformation.setGloballyUniqueIdentifier("ME.RUPIAPP");
+        mpm.addMerchantAccountInformation("40", merchantAccountInformation);
+        mpm.setMerchantCategoryCode("0000");
+        mpm.setTransactionCurrency("360");
+        mpm.setCountryCode("ID");
+        mpm.setMerchantName("Kopi Caf\u00e9");
+        mpm.setMerchantCity("Jakarta");
+        mpm.setPostalCode("12345");
+
+        QrisUtil.AdditionalDataFieldTemplate additionalData = new QrisUtil.AdditionalDataFieldTemplate();
+        additionalData.setReferenceLabel("0804DMCTa1b2c3d4");
+        additionalData.setTerminalLabel("0987654321" + "00" + "10");
+        mpm.setAdditionalDataFieldTemplate(additionalData);
+
+        String encoded = QrisUtil.MPM.encode(mpm);
+        QrisPayload payload = QrisPayload.parse(encoded);
+
+        assertTrue(payload.hasValidCrc());
+        assertTrue(payload.isDynamic());
+        assertEquals("150000", payload.getTransactionAmount());
+        assertEquals("Kopi Caf\u00e9", payload.getMerchantName());
+        assertEquals("ME.RUPIAPP", payload.template(40).get(0));
+        assertEquals("0804DMCTa1b2c3d4", payload.template(62).get(QrisPayload.REFERENCE_LABEL));
+        assertEquals("0987654321", payload.getAccountNumber());
+    }
+
+    @Test
+    void encodeAppendsToTheGivenBuilder() {
+        QrisUtil.MPM mpm = new QrisUtil.MPM();
+        mpm.setPayloadFormatIndicator("01");
+        mpm.setMerchantCategoryCode("0000");
+        mpm.setTransactionCurrency("360");
+        mpm.setCountryCode("ID");
+        mpm.setMerchantName("John Doe");
+        mpm.setMerchantCity("Jakarta");
+
+        StringBuilder sb = new StringBuilder("prefix");
+        QrisUtil.MPM.encode(mpm, sb);
+
+        assertEquals("prefix" + QrisUtil.MPM.encode(mpm), sb.toString());
+        assertTrue(QrisPayload.parse(sb.substring("prefix".length())).hasValidCrc());
+    }
+
+    @Test
+    void rejectsTamperedPayloads() {
+        String nameChanged = STATIC_QRIS.replace("5908John Doe", "5908John Dog");
+        String crcChanged = STATIC_QRIS.substring(0, STATIC_QRIS.length() - 1) + "E";
+        String crcMissing = STATIC_QRIS.substring(0, STATIC_QRIS.length() - 8);
+        String crcNotLast = STATIC_QRIS + "0000";
+
+        assertFalse(QrisPayload.parse(nameChanged).hasValidCrc());
+        assertFalse(QrisPayload.parse(crcChanged).hasValidCrc());
+        assertFalse(QrisPayload.parse(crcMissing).hasValidCrc());
+        assertFalse(QrisPayload.parse(crcNotLast).hasValidCrc());
+    }
+
+    /*
+     * Straightforward bit-at-a-time CRC-16/CCITT-FALSE to check the table
+     * driven one against.
+     */
+    private static int bitwiseCrc(byte[] data) {
+        int crc = 0xFFFF;
+        for (byte b : data) {
+            crc ^= (b & 0xFF) << 8;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 0x8000) != 0 ? ((crc << 1) ^ 0x1021) & 0xFFFF : (crc << 1) & 0xFFFF;
+            }
+        }
+        return crc;
+    }
+}